@@ -25,6 +25,7 @@ import A704.DODREAM.user.repository.ClassroomRepository;
 import A704.DODREAM.user.repository.SchoolRepository;
 import A704.DODREAM.user.repository.StudentProfileRepository;
 import A704.DODREAM.user.repository.UserRepository;
+import A704.DODREAM.user.service.ClassroomSummaryCache;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -36,6 +37,7 @@ public class StudentAuthService {
 	private final StudentRegistryRepository studentRegistryRepository;
 	private final StudentProfileRepository studentProfileRepository;
 	private final DeviceCredentialRepository deviceCredentialRepository;
+	private final ClassroomSummaryCache classroomSummaryCache;
 	private final PasswordEncoder encoder; // BCrypt
 
 	@Transactional(readOnly = true)
@@ -87,6 +89,7 @@ public class StudentAuthService {
 		//    StudentProfile.create(...)는 classroom 세팅이 없어 setter로 연결
 		StudentProfile profile = StudentProfile.create(user, schoolName, req.studentNumber(), classroom, sr.getGender());
 		studentProfileRepository.save(profile);
+		classroomSummaryCache.evictAllAfterCommit();
 
 		// 8) 기기 크리덴셜 저장 (secret -> BCrypt)
 		String hash = encoder.encode(req.deviceSecret());
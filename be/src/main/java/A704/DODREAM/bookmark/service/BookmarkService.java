@@ -8,24 +8,21 @@ import A704.DODREAM.bookmark.entity.Bookmark;
 import A704.DODREAM.bookmark.repository.BookmarkRepository;
 import A704.DODREAM.file.entity.UploadedFile;
 import A704.DODREAM.file.repository.UploadedFileRepository;
+import A704.DODREAM.file.service.ParsedDocumentCache;
 import A704.DODREAM.file.service.PdfService;
 import A704.DODREAM.global.exception.CustomException;
 import A704.DODREAM.global.exception.constant.ErrorCode;
+import A704.DODREAM.material.document.Chapter;
+import A704.DODREAM.material.document.MaterialDocument;
 import A704.DODREAM.material.entity.Material;
 import A704.DODREAM.material.repository.MaterialRepository;
 import A704.DODREAM.user.entity.User;
 import A704.DODREAM.user.repository.UserRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.core.ResponseInputStream;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
 import java.util.List;
 import java.util.Map;
@@ -43,11 +40,7 @@ public class BookmarkService {
     private final UserRepository userRepository;
     private final UploadedFileRepository uploadedFileRepository;
     private final PdfService pdfService;
-    private final ObjectMapper objectMapper;
-    private final S3Client s3Client;
-
-    @Value("${aws.s3.bucket}")
-    private String bucketName;
+    private final ParsedDocumentCache parsedDocumentCache;
 
     @Transactional
     public BookmarkResponse toggleBookmark(Long userId, BookmarkRequest request){
@@ -113,7 +106,7 @@ public class BookmarkService {
                 .collect(Collectors.toList());
     }
 
-    public Map<String, Object> getJsonFromS3(Long pdfId) {
+    private String getJsonS3Key(Long pdfId) {
         UploadedFile uploadedFile = uploadedFileRepository.findById(pdfId)
                 .orElseThrow(() -> new RuntimeException("PDF not found"));
 
@@ -121,70 +114,47 @@ public class BookmarkService {
             throw new RuntimeException("파싱된 JSON이 없습니다.");
         }
 
-        try {
-            GetObjectRequest getRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(uploadedFile.getJsonS3Key())
-                    .build();
-
-            ResponseInputStream<GetObjectResponse> response = s3Client.getObject(getRequest);
-            String jsonString = new String(response.readAllBytes());
-
-            return objectMapper.readValue(jsonString, Map.class);
-
-        } catch (Exception e) {
-            throw new RuntimeException("JSON 조회 실패: " + e.getMessage());
-        }
+        return uploadedFile.getJsonS3Key();
     }
 
     private Map<String, Object> getContentById(Long pdfId, String titleId){
 
-        Map<String, Object> fullJson = getJsonFromS3(pdfId);
+        // 같은 자료를 여러 학생이 열면 캐시된 타입 모델을 공유
+        MaterialDocument document = parsedDocumentCache.getDocument(getJsonS3Key(pdfId));
 
-        List<Map<String, Object>> chapters = (List<Map<String, Object>>) fullJson.get("chapters");
-
-        if(chapters == null || chapters.isEmpty()) {
+        if(document.getChapters().isEmpty()) {
             throw new CustomException(ErrorCode.INVALID_JSON_STRUCTURE);
         }
 
-        for (Map<String, Object> chapter : chapters) {
-            String chapterId = String.valueOf(chapter.get("id"));
-
-            if (titleId.equals(chapterId)) {
-                String type = (String) chapter.get("type");
-                String title = (String) chapter.getOrDefault("title", "");
-                String contents = "";
-
-                if("quiz".equals(type)) {
-                    List<Map<String, Object>> qaList = (List<Map<String, Object>>) chapter.get("qa");
-                    if(qaList != null && !qaList.isEmpty()) {
-                        StringBuilder sb = new StringBuilder();
-                        for(int i = 0; i < qaList.size(); i++) {
-                            Map<String, Object> qa = qaList.get(i);
-                            sb.append("Q").append(i+1).append(". ")
-                                    .append(qa.getOrDefault("question", ""))
-                                    .append("\n\n정답: ")
-                                    .append(qa.getOrDefault("answer", ""))
-                                    .append("\n\n---\n\n");
-                        }
-                        contents = sb.toString().trim();
-                    }
-                } else if("content".equals(type)) {
-                    // content 타입
-                    contents = (String) chapter.getOrDefault("content", "");
-                } else {
-                    // 기타 타입
-                    contents = (String) chapter.getOrDefault("content", "");
+        Chapter chapter = document.findChapter(titleId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
+
+        String title = chapter.getTitle() != null ? chapter.getTitle() : "";
+        String contents = "";
+
+        if(chapter.isQuiz()) {
+            List<Chapter.QaItem> qaList = chapter.getQa();
+            if(!qaList.isEmpty()) {
+                StringBuilder sb = new StringBuilder();
+                for(int i = 0; i < qaList.size(); i++) {
+                    Chapter.QaItem qa = qaList.get(i);
+                    sb.append("Q").append(i+1).append(". ")
+                            .append(qa.getQuestion())
+                            .append("\n\n정답: ")
+                            .append(qa.getAnswer())
+                            .append("\n\n---\n\n");
                 }
-
-                return Map.of(
-                        "title", title,
-                        "contents", contents
-                );
+                contents = sb.toString().trim();
             }
+        } else if(chapter.getContent() != null) {
+            // content 타입 및 기타 타입
+            contents = chapter.getContent();
         }
 
-        throw new CustomException(ErrorCode.CONTENT_NOT_FOUND);
+        return Map.of(
+                "title", title,
+                "contents", contents
+        );
     }
 
     @Transactional
@@ -2,23 +2,41 @@ package A704.DODREAM.config;
 
 import java.util.concurrent.Executor;
 
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import lombok.RequiredArgsConstructor;
+
+/**
+ * spring.threads.virtual.enabled=true (Java 21 이상에서 실행)이면 @Async 작업을 가상 스레드에서 실행한다.
+ * 두 모드 모두 같은 풀 설정을 쓴다: 기본 5개 실행, 대기열 25개가 차면 최대 10개까지 실행, 그 이상은 바로 거절.
+ * (호출한 요청 스레드는 빈자리를 기다리지 않는다)
+ */
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
+	private static final String THREAD_NAME_PREFIX = "ocr-async-";
+
+	private final Environment environment;
+
 	@Override
 	public Executor getAsyncExecutor() {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 		executor.setCorePoolSize(5);
 		executor.setMaxPoolSize(10);
 		executor.setQueueCapacity(25);
-		executor.setThreadNamePrefix("ocr-async-");
+		executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+		if (Threading.VIRTUAL.isActive(environment)) {
+			executor.setThreadFactory(new VirtualThreadTaskExecutor(THREAD_NAME_PREFIX).getVirtualThreadFactory());
+		}
 		executor.initialize();
 		return executor;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package A704.DODREAM.fcm.dto;
+
+import A704.DODREAM.fcm.enums.DeviceType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 푸시 전송 대상 디바이스 (조회 전용)
+ */
+@Getter
+@AllArgsConstructor
+public class DeviceTokenRow {
+	private Long deviceId;
+	private Long userId;
+	private String fcmToken;
+	private DeviceType deviceType;
+}
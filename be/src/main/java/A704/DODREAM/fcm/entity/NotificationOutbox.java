@@ -0,0 +1,68 @@
+package A704.DODREAM.fcm.entity;
+
+import java.time.LocalDateTime;
+
+import A704.DODREAM.fcm.enums.OutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 푸시 알림 outbox
+ * 알림을 발생시킨 데이터(자료 공유 등)와 같은 트랜잭션에서 저장되고, NotificationDispatcher가 전송한다.
+ */
+@Entity
+@Table(name = "notification_outbox",
+	indexes = {
+		@Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private String title;
+
+	@Column(nullable = false, length = 1000)
+	private String body;
+
+	@Column(name = "recipient_ids", nullable = false, columnDefinition = "TEXT")
+	private String recipientIds; // 쉼표로 구분한 사용자 ID (재시도 시 아직 받지 못한 사용자만 남음)
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private OutboxStatus status;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "last_error", length = 1000)
+	private String lastError;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "sent_at")
+	private LocalDateTime sentAt;
+}
@@ -0,0 +1,7 @@
+package A704.DODREAM.fcm.enums;
+
+public enum OutboxStatus {
+	PENDING,    // 전송 대기 (재시도 포함)
+	SENT,       // 전송 완료
+	DEAD        // 최대 시도 횟수 초과 (dead letter)
+}
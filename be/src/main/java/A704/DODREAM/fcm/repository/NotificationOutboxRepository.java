@@ -0,0 +1,8 @@
+package A704.DODREAM.fcm.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import A704.DODREAM.fcm.entity.NotificationOutbox;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+}
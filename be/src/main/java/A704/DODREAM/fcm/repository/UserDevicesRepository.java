@@ -1,12 +1,16 @@
 package A704.DODREAM.fcm.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import A704.DODREAM.fcm.dto.DeviceTokenRow;
 import A704.DODREAM.fcm.entity.UserDevices;
 
 public interface UserDevicesRepository extends JpaRepository<UserDevices, Long> {
@@ -19,6 +23,22 @@ public interface UserDevicesRepository extends JpaRepository<UserDevices, Long>
 	@Query("UPDATE UserDevices d SET d.isActive = false WHERE d.fcmToken =:token")
 	void deactivateByToken(String token);
 
+	// 전송 결과 UNREGISTERED인 토큰 일괄 비활성화
+	@Modifying
+	@Query("UPDATE UserDevices d SET d.isActive = false WHERE d.fcmToken IN :tokens")
+	int deactivateByTokenIn(@Param("tokens") Collection<String> tokens);
+
+	// 전송에 성공한 디바이스의 마지막 사용 시각 일괄 갱신
+	@Modifying
+	@Query("UPDATE UserDevices d SET d.lastUsedAt = :usedAt WHERE d.id IN :ids")
+	int touchLastUsedAtByIdIn(@Param("ids") Collection<Long> ids, @Param("usedAt") LocalDateTime usedAt);
+
+	// 여러 사용자의 활성 디바이스 토큰 (쿼리 1번, 엔티티 로딩 없음)
+	@Query("SELECT new A704.DODREAM.fcm.dto.DeviceTokenRow(d.id, d.user.id, d.fcmToken, d.deviceType) " +
+		"FROM UserDevices d " +
+		"WHERE d.user.id IN :userIds AND d.isActive = true")
+	List<DeviceTokenRow> findActiveTokensByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
 	List<UserDevices> findByUserId(Long userId);
 
 }
@@ -0,0 +1,286 @@
+package A704.DODREAM.fcm.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+
+import A704.DODREAM.fcm.dto.DeviceTokenRow;
+import A704.DODREAM.fcm.enums.DeviceType;
+import A704.DODREAM.fcm.repository.UserDevicesRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * FCM 멀티캐스트 전송
+ * <p>
+ * 대상 사용자의 활성 디바이스 토큰을 쿼리 한 번으로 조회하고, batch-size(최대 500)개씩 묶어
+ * sendEachForMulticast로 전송한다. 배치는 전용 스레드풀에서 최대 parallelism개까지 동시에 전송된다.
+ * UNREGISTERED 응답을 받은 토큰은 전송이 끝난 뒤 한 번에 비활성화하고, 전송에 성공한 디바이스는
+ * last_used_at을 한 번에 갱신한다.
+ * <p>
+ * 배치 지연 시간은 fcm.delivery.batch{outcome}, 메시지 결과는 fcm.delivery.messages{result}로 기록한다.
+ * 시간 안에 끝나지 않았거나 예외로 끝난 배치는 디바이스 수만큼 failure로 기록한다.
+ */
+@Slf4j
+@Component
+public class FcmDeliveryEngine {
+
+	private static final int MAX_BATCH_SIZE = 500; // sendEachForMulticast 최대 토큰 수
+
+	private final UserDevicesRepository userDevicesRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+	private final ExecutorService sendExecutor;
+	private final int batchSize;
+	private final long timeoutNanos;
+
+	private final Counter successCounter;
+	private final Counter failureCounter;
+	private final Counter unregisteredCounter;
+
+	public FcmDeliveryEngine(
+		UserDevicesRepository userDevicesRepository,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${fcm.delivery.batch-size:500}") int batchSize,
+		@Value("${fcm.delivery.parallelism:4}") int parallelism,
+		@Value("${fcm.delivery.timeout-seconds:30}") long timeoutSeconds) {
+		this.userDevicesRepository = userDevicesRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.meterRegistry = meterRegistry;
+		this.batchSize = Math.min(MAX_BATCH_SIZE, Math.max(1, batchSize));
+		this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+		AtomicInteger threadCount = new AtomicInteger();
+		this.sendExecutor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+			Thread thread = new Thread(runnable, "fcm-delivery-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		this.successCounter = messageCounter(meterRegistry, "success");
+		this.failureCounter = messageCounter(meterRegistry, "failure");
+		this.unregisteredCounter = messageCounter(meterRegistry, "unregistered");
+	}
+
+	/**
+	 * 사용자들의 모든 활성 디바이스에 알림 전송
+	 * 전체 대기 시간은 timeout-seconds로 제한되며, 시간 안에 끝나지 않은 배치는 실패로 처리한다.
+	 */
+	public DeliveryResult deliver(Collection<Long> userIds, String title, String body) {
+		if (userIds == null || userIds.isEmpty()) {
+			return new DeliveryResult(List.of());
+		}
+
+		List<DeviceTokenRow> devices = userDevicesRepository.findActiveTokensByUserIdIn(Set.copyOf(userIds));
+		if (devices.isEmpty()) {
+			return new DeliveryResult(List.of());
+		}
+
+		Notification notification = Notification.builder()
+			.setTitle(title)
+			.setBody(body)
+			.build();
+
+		List<List<DeviceTokenRow>> batches = new ArrayList<>();
+		List<Future<BatchOutcome>> futures = new ArrayList<>();
+		for (int from = 0; from < devices.size(); from += batchSize) {
+			List<DeviceTokenRow> batch = devices.subList(from, Math.min(from + batchSize, devices.size()));
+			batches.add(batch);
+			futures.add(sendExecutor.submit(() -> sendBatch(batch, notification)));
+		}
+
+		List<DeviceResult> results = new ArrayList<>(devices.size());
+		Set<String> unregisteredTokens = new LinkedHashSet<>();
+		long deadline = System.nanoTime() + timeoutNanos;
+
+		for (int i = 0; i < futures.size(); i++) {
+			Future<BatchOutcome> future = futures.get(i);
+			try {
+				BatchOutcome outcome = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				results.addAll(outcome.results());
+				unregisteredTokens.addAll(outcome.unregisteredTokens());
+				count(outcome);
+			} catch (TimeoutException | ExecutionException e) {
+				future.cancel(true);
+				log.error("FCM 배치 전송 실패: {}개 디바이스, error={}", batches.get(i).size(), e.getMessage());
+				results.addAll(failed(batches.get(i)));
+				failureCounter.increment(batches.get(i).size());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				future.cancel(true);
+				results.addAll(failed(batches.get(i)));
+				failureCounter.increment(batches.get(i).size());
+			}
+		}
+
+		deactivate(unregisteredTokens);
+		touchLastUsedAt(results);
+
+		return new DeliveryResult(results);
+	}
+
+	private BatchOutcome sendBatch(List<DeviceTokenRow> batch, Notification notification) {
+		MulticastMessage message = MulticastMessage.builder()
+			.addAllTokens(batch.stream().map(DeviceTokenRow::getFcmToken).toList())
+			.setNotification(notification)
+			.build();
+
+		long start = System.nanoTime();
+		BatchResponse response;
+		try {
+			response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
+		} catch (FirebaseMessagingException | RuntimeException e) {
+			recordBatch("error", start);
+			log.error("FCM 멀티캐스트 전송 실패: {}개 디바이스, error={}", batch.size(), e.getMessage());
+			return new BatchOutcome(failed(batch), List.of());
+		}
+		recordBatch("success", start);
+
+		List<DeviceResult> results = new ArrayList<>(batch.size());
+		List<String> unregisteredTokens = new ArrayList<>();
+		List<SendResponse> responses = response.getResponses();
+
+		// 응답은 토큰 순서와 같음
+		for (int i = 0; i < batch.size(); i++) {
+			DeviceTokenRow device = batch.get(i);
+			SendResponse sendResponse = responses.get(i);
+			results.add(new DeviceResult(device.getDeviceId(), device.getUserId(), device.getDeviceType(),
+				sendResponse.isSuccessful()));
+
+			if (!sendResponse.isSuccessful() && isUnregistered(sendResponse.getException())) {
+				unregisteredTokens.add(device.getFcmToken());
+			}
+		}
+
+		log.debug("FCM 멀티캐스트 전송: success={}, failure={}", response.getSuccessCount(),
+			response.getFailureCount());
+		return new BatchOutcome(results, unregisteredTokens);
+	}
+
+	/**
+	 * 기다린 배치의 메시지 결과 기록 (시간 초과로 버린 배치가 뒤늦게 끝나도 중복 집계하지 않도록 여기서만 센다)
+	 */
+	private void count(BatchOutcome outcome) {
+		long success = outcome.results().stream().filter(DeviceResult::success).count();
+		successCounter.increment(success);
+		unregisteredCounter.increment(outcome.unregisteredTokens().size());
+		failureCounter.increment(outcome.results().size() - success - outcome.unregisteredTokens().size());
+	}
+
+	private boolean isUnregistered(FirebaseMessagingException e) {
+		return e != null && e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED;
+	}
+
+	private void deactivate(Set<String> tokens) {
+		if (tokens.isEmpty()) {
+			return;
+		}
+
+		try {
+			Integer deactivated = transactionTemplate.execute(
+				status -> userDevicesRepository.deactivateByTokenIn(tokens));
+			log.info("만료된 FCM 토큰 비활성화: {}개", deactivated);
+		} catch (Exception e) {
+			log.error("FCM 토큰 비활성화 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	private void touchLastUsedAt(List<DeviceResult> results) {
+		List<Long> deviceIds = results.stream()
+			.filter(DeviceResult::success)
+			.map(DeviceResult::deviceId)
+			.toList();
+		if (deviceIds.isEmpty()) {
+			return;
+		}
+
+		LocalDateTime usedAt = LocalDateTime.now();
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				for (int from = 0; from < deviceIds.size(); from += batchSize) {
+					userDevicesRepository.touchLastUsedAtByIdIn(
+						deviceIds.subList(from, Math.min(from + batchSize, deviceIds.size())), usedAt);
+				}
+			});
+		} catch (Exception e) {
+			log.error("FCM 디바이스 마지막 사용 시각 갱신 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	private List<DeviceResult> failed(List<DeviceTokenRow> batch) {
+		return batch.stream()
+			.map(device -> new DeviceResult(device.getDeviceId(), device.getUserId(), device.getDeviceType(), false))
+			.toList();
+	}
+
+	private void recordBatch(String outcome, long startNanos) {
+		Timer.builder("fcm.delivery.batch")
+			.description("FCM 멀티캐스트 배치 전송 시간")
+			.tag("outcome", outcome)
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private Counter messageCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("fcm.delivery.messages")
+			.description("FCM 메시지 전송 결과 (success, failure, unregistered)")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		sendExecutor.shutdownNow();
+	}
+
+	private record BatchOutcome(List<DeviceResult> results, List<String> unregisteredTokens) {
+	}
+
+	/**
+	 * 디바이스 하나의 전송 결과
+	 */
+	public record DeviceResult(Long deviceId, Long userId, DeviceType deviceType, boolean success) {
+	}
+
+	/**
+	 * 전체 전송 결과
+	 */
+	public record DeliveryResult(List<DeviceResult> devices) {
+
+		public long successCount() {
+			return devices.stream().filter(DeviceResult::success).count();
+		}
+
+		public long failureCount() {
+			return devices.size() - successCount();
+		}
+	}
+}
@@ -18,10 +18,6 @@ import org.springframework.transaction.annotation.Transactional;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
 
 import A704.DODREAM.fcm.dto.FcmResponse;
 import A704.DODREAM.fcm.dto.FcmSendRequest;
@@ -42,6 +38,7 @@ public class FcmService {
 
 	private final UserRepository userRepository;
 	private final UserDevicesRepository userDevicesRepository;
+	private final FcmDeliveryEngine fcmDeliveryEngine;
 
 	@Value("${firebase-credentials-file}")
 	private String firebaseCredentials;
@@ -65,6 +62,9 @@ public class FcmService {
 		}
 	}
 
+	/**
+	 * 사용자들의 모든 활성 디바이스에 푸시 알림 전송 (토큰 조회 1번 + 500개 단위 멀티캐스트)
+	 */
 	public FcmResponse sendMessageTo(FcmSendRequest fcmSendRequest) {
 
 		if (fcmSendRequest.getUserIds() == null || fcmSendRequest.getUserIds().isEmpty()) {
@@ -79,71 +79,38 @@ public class FcmService {
 		Map<Long, User> userMap = users.stream()
 			.collect(Collectors.toMap(User::getId, Function.identity()));
 
-		List<FcmResponse.UserResult> userResults = new ArrayList<>();
-		int totalSuccess = 0;
+		FcmDeliveryEngine.DeliveryResult delivery = fcmDeliveryEngine.deliver(userMap.keySet(),
+			fcmSendRequest.getTitle(), fcmSendRequest.getBody());
 
-		for (Long userId : fcmSendRequest.getUserIds()) {
-			User user = userMap.get(userId);
+		if (delivery.devices().isEmpty()) {
+			return FcmResponse.builder()
+				.success(false)
+				.message("등록된 디바이스가 없습니다")
+				.build();
+		}
 
-			if (user == null) {
-				userResults.add(FcmResponse.UserResult.builder()
-					.userId(userId)
-					.userName("알 수 없음")
-					.devices(List.of())
-					.build());
-				continue;
-			}
+		Map<Long, List<FcmResponse.FcmResult>> resultsByUser = delivery.devices().stream()
+			.collect(Collectors.groupingBy(FcmDeliveryEngine.DeviceResult::userId,
+				Collectors.mapping(device -> FcmResponse.FcmResult.builder()
+					.deviceId(device.deviceId())
+					.deviceType(device.deviceType())
+					.success(device.success())
+					.build(), Collectors.toList())));
 
-			//사용자의 모든 활성 디바이스 조회
-			List<UserDevices> devices = userDevicesRepository.findByUserIdAndIsActiveTrue(userId);
+		List<FcmResponse.UserResult> userResults = new ArrayList<>();
 
-			if (devices.isEmpty()) {
-				return FcmResponse.builder()
-					.success(false)
-					.message("등록된 디바이스가 없습니다")
-					.build();
-			}
+		for (Long userId : fcmSendRequest.getUserIds()) {
+			User user = userMap.get(userId);
 
-			//각 디바이스에 전송
-			List<FcmResponse.FcmResult> results = new ArrayList<>();
-
-			for (UserDevices device : devices) {
-				try {
-					Message message = Message.builder()
-						.setToken(device.getFcmToken())
-						.setNotification(Notification.builder()
-							.setTitle(fcmSendRequest.getTitle())
-							.setBody(fcmSendRequest.getBody())
-							.build())
-						.build();
-
-					String response = FirebaseMessaging.getInstance().send(message);
-
-					results.add(FcmResponse.FcmResult.builder()
-						.deviceId(device.getId())
-						.deviceType(device.getDeviceType())
-						.success(true)
-						.build());
-
-					totalSuccess++;
-
-					device.setLastUsedAt(LocalDateTime.now());
-				} catch (FirebaseMessagingException e) {
-					// 실패
-					results.add(FcmResponse.FcmResult.builder()
-						.deviceId(device.getId())
-						.deviceType(device.getDeviceType())
-						.success(false)
-						.build());
-				}
-			}
 			userResults.add(FcmResponse.UserResult.builder()
 				.userId(userId)
-				.userName(user.getName())
-				.devices(results)
+				.userName(user != null ? user.getName() : "알 수 없음")
+				.devices(resultsByUser.getOrDefault(userId, List.of()))
 				.build());
 		}
 
+		long totalSuccess = delivery.successCount();
+
 		return FcmResponse.builder()
 			.success(totalSuccess > 0)
 			.message(String.format("%d개 디바이스에 전송 성공",
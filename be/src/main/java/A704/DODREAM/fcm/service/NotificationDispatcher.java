@@ -0,0 +1,339 @@
+package A704.DODREAM.fcm.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * notification_outbox 전송기
+ * <p>
+ * 전용 스레드가 poll-interval-ms마다 (그리고 outbox에 새 알림이 커밋되면 바로) 전송할 항목을 batch-size개씩 가져와
+ * FcmDeliveryEngine으로 보낸다.
+ * - 가져올 때 FOR UPDATE SKIP LOCKED + next_attempt_at 임대로 여러 서버가 같은 항목을 보내지 않음
+ *   (전송 중 서버가 죽으면 임대가 끝난 뒤 다른 서버가 다시 보냄)
+ * - 배치 안의 항목은 차례로 보내므로 n번째 항목의 임대는 lease-seconds + n x FCM 전송 타임아웃으로 잡음
+ * - 결과 반영은 attempts(임대 토큰)가 가져올 때 값 그대로일 때만 하므로, 임대가 끝나 다른 서버가 가져간 항목을 덮어쓰지 않음
+ * - 아직 받지 못한 사용자만 남겨 지수 백오프(지터 포함)로 재시도하고, max-attempts를 넘으면 DEAD로 남김
+ * - 전송 완료 항목은 retention-days 후 삭제
+ * <p>
+ * 처리 결과는 notification.outbox.dispatched{result=sent|retry|dead}로 기록한다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+	private static final String CLAIM_SQL =
+		"SELECT id, title, body, recipient_ids, attempts FROM notification_outbox " +
+			"WHERE status = 'PENDING' AND next_attempt_at <= ? " +
+			"ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED";
+
+	private static final String LEASE_SQL =
+		"UPDATE notification_outbox SET attempts = attempts + 1, next_attempt_at = ? WHERE id = ?";
+
+	private static final String SENT_SQL =
+		"UPDATE notification_outbox SET status = 'SENT', sent_at = ?, last_error = NULL " +
+			"WHERE id = ? AND attempts = ?";
+
+	private static final String RETRY_SQL =
+		"UPDATE notification_outbox SET recipient_ids = ?, next_attempt_at = ?, last_error = ? " +
+			"WHERE id = ? AND attempts = ?";
+
+	private static final String DEAD_SQL =
+		"UPDATE notification_outbox SET status = 'DEAD', recipient_ids = ?, last_error = ? " +
+			"WHERE id = ? AND attempts = ?";
+
+	private static final String CLEANUP_SQL =
+		"DELETE FROM notification_outbox WHERE status = 'SENT' AND sent_at < ? LIMIT 1000";
+
+	private final FcmDeliveryEngine fcmDeliveryEngine;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final ScheduledExecutorService dispatcher;
+	private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+
+	private final int batchSize;
+	private final int maxAttempts;
+	private final long backoffMs;
+	private final long maxBackoffMs;
+	private final long leaseSeconds;
+	private final long sendTimeoutSeconds;
+	private final long retentionDays;
+
+	private final Counter sentCounter;
+	private final Counter retryCounter;
+	private final Counter deadCounter;
+
+	public NotificationDispatcher(
+		FcmDeliveryEngine fcmDeliveryEngine,
+		JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${notification.outbox.poll-interval-ms:5000}") long pollIntervalMs,
+		@Value("${notification.outbox.batch-size:50}") int batchSize,
+		@Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+		@Value("${notification.outbox.backoff-ms:2000}") long backoffMs,
+		@Value("${notification.outbox.max-backoff-ms:300000}") long maxBackoffMs,
+		@Value("${notification.outbox.lease-seconds:120}") long leaseSeconds,
+		@Value("${notification.outbox.retention-days:7}") long retentionDays,
+		@Value("${fcm.delivery.timeout-seconds:30}") long sendTimeoutSeconds) {
+		this.fcmDeliveryEngine = fcmDeliveryEngine;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = Math.max(1, batchSize);
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.backoffMs = Math.max(100, backoffMs);
+		this.maxBackoffMs = Math.max(this.backoffMs, maxBackoffMs);
+		this.leaseSeconds = Math.max(1, leaseSeconds);
+		this.sendTimeoutSeconds = Math.max(1, sendTimeoutSeconds);
+		this.retentionDays = retentionDays;
+
+		this.sentCounter = dispatchCounter(meterRegistry, "sent");
+		this.retryCounter = dispatchCounter(meterRegistry, "retry");
+		this.deadCounter = dispatchCounter(meterRegistry, "dead");
+
+		this.dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "notification-dispatcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = Math.max(100, pollIntervalMs);
+		this.dispatcher.scheduleWithFixedDelay(this::drainSafely, interval, interval, TimeUnit.MILLISECONDS);
+		this.dispatcher.scheduleWithFixedDelay(this::cleanupSafely, 1, 60, TimeUnit.MINUTES);
+	}
+
+	/**
+	 * outbox에 새 알림이 들어왔을 때 바로 전송 시작 (트랜잭션 안이면 커밋 후)
+	 */
+	public void wakeUpAfterCommit() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			wakeUp();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				wakeUp();
+			}
+		});
+	}
+
+	private void wakeUp() {
+		// 이미 요청된 실행이 있으면 합침
+		if (wakeUpRequested.compareAndSet(false, true)) {
+			dispatcher.execute(() -> {
+				wakeUpRequested.set(false);
+				drainSafely();
+			});
+		}
+	}
+
+	private void drainSafely() {
+		try {
+			List<Claimed> claimed;
+			do {
+				claimed = claim();
+				claimed.forEach(this::dispatch);
+			} while (claimed.size() == batchSize);
+		} catch (Exception e) {
+			log.error("알림 outbox 전송 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 전송할 항목을 가져오고 임대 시간 동안 다른 서버가 가져가지 않도록 next_attempt_at을 미룸
+	 * 앞 항목들을 보내는 동안 임대가 끝나지 않도록 순서만큼 전송 타임아웃을 더한다.
+	 */
+	private List<Claimed> claim() {
+		List<Claimed> claimed = transactionTemplate.execute(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			List<Claimed> rows = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new Claimed(
+				rs.getLong("id"),
+				rs.getString("title"),
+				rs.getString("body"),
+				rs.getString("recipient_ids"),
+				rs.getInt("attempts") + 1), Timestamp.valueOf(now), batchSize);
+
+			if (!rows.isEmpty()) {
+				jdbcTemplate.batchUpdate(LEASE_SQL, new BatchPreparedStatementSetter() {
+					@Override
+					public void setValues(PreparedStatement ps, int i) throws SQLException {
+						long lease = leaseSeconds + (i + 1) * sendTimeoutSeconds;
+						ps.setTimestamp(1, Timestamp.valueOf(now.plusSeconds(lease)));
+						ps.setLong(2, rows.get(i).id());
+					}
+
+					@Override
+					public int getBatchSize() {
+						return rows.size();
+					}
+				});
+			}
+			return rows;
+		});
+		return claimed != null ? claimed : List.of();
+	}
+
+	private void dispatch(Claimed entry) {
+		List<Long> recipients = parseIds(entry.recipientIds());
+		List<Long> undelivered;
+		String error;
+
+		try {
+			FcmDeliveryEngine.DeliveryResult result = fcmDeliveryEngine.deliver(recipients, entry.title(),
+				entry.body());
+			undelivered = undeliveredUsers(result);
+			error = undelivered.isEmpty() ? null : String.format("%d명 전송 실패", undelivered.size());
+		} catch (Exception e) {
+			undelivered = recipients;
+			error = e.getMessage();
+		}
+
+		if (undelivered.isEmpty()) {
+			if (applied(entry, jdbcTemplate.update(SENT_SQL, Timestamp.valueOf(LocalDateTime.now()), entry.id(),
+				entry.attempt()))) {
+				sentCounter.increment();
+			}
+			return;
+		}
+
+		String remaining = joinIds(undelivered);
+		String lastError = truncate(error);
+
+		if (entry.attempt() >= maxAttempts) {
+			if (!applied(entry, jdbcTemplate.update(DEAD_SQL, remaining, lastError, entry.id(), entry.attempt()))) {
+				return;
+			}
+			deadCounter.increment();
+			log.error("알림 전송 최종 실패 (dead letter): outboxId={}, attempts={}, 미전송 {}명, error={}",
+				entry.id(), entry.attempt(), undelivered.size(), error);
+			return;
+		}
+
+		LocalDateTime nextAttemptAt = LocalDateTime.now().plusNanos(
+			TimeUnit.MILLISECONDS.toNanos(backoffMillis(entry.attempt())));
+		if (!applied(entry, jdbcTemplate.update(RETRY_SQL, remaining, Timestamp.valueOf(nextAttemptAt), lastError,
+			entry.id(), entry.attempt()))) {
+			return;
+		}
+		retryCounter.increment();
+		log.warn("알림 전송 재시도 예약: outboxId={}, attempt={}, 미전송 {}명, next={}",
+			entry.id(), entry.attempt(), undelivered.size(), nextAttemptAt);
+	}
+
+	/**
+	 * 결과 반영 여부 (임대가 끝나 다른 서버가 다시 가져간 항목이면 attempts가 달라져 0건)
+	 */
+	private boolean applied(Claimed entry, int updated) {
+		if (updated == 0) {
+			log.warn("알림 outbox 임대 만료로 결과 반영 안 함: outboxId={}, attempt={}", entry.id(), entry.attempt());
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 디바이스가 있지만 어느 디바이스에도 전송되지 않은 사용자
+	 * (활성 디바이스가 없는 사용자는 보낼 곳이 없으므로 완료로 봄)
+	 */
+	private List<Long> undeliveredUsers(FcmDeliveryEngine.DeliveryResult result) {
+		Set<Long> delivered = new HashSet<>();
+		Set<Long> failed = new HashSet<>();
+		for (FcmDeliveryEngine.DeviceResult device : result.devices()) {
+			if (device.success()) {
+				delivered.add(device.userId());
+			} else {
+				failed.add(device.userId());
+			}
+		}
+		failed.removeAll(delivered);
+		return List.copyOf(failed);
+	}
+
+	/**
+	 * 지수 백오프 (backoff-ms * 2^(attempt-1), 최대 max-backoff-ms) + 0.5~1배 지터
+	 */
+	private long backoffMillis(int attempt) {
+		long exponential = backoffMs << Math.min(attempt - 1, 20);
+		long capped = Math.min(maxBackoffMs, exponential);
+		return (long)(capped * (0.5 + ThreadLocalRandom.current().nextDouble() * 0.5));
+	}
+
+	private void cleanupSafely() {
+		try {
+			int deleted = jdbcTemplate.update(CLEANUP_SQL,
+				Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays)));
+			if (deleted > 0) {
+				log.info("전송 완료 알림 outbox 정리: {}건", deleted);
+			}
+		} catch (Exception e) {
+			log.error("알림 outbox 정리 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	static String joinIds(Iterable<Long> ids) {
+		StringBuilder joined = new StringBuilder();
+		for (Long id : ids) {
+			if (!joined.isEmpty()) {
+				joined.append(',');
+			}
+			joined.append(id);
+		}
+		return joined.toString();
+	}
+
+	private List<Long> parseIds(String ids) {
+		return Arrays.stream(ids.split(","))
+			.map(String::strip)
+			.filter(id -> !id.isEmpty())
+			.map(Long::valueOf)
+			.collect(Collectors.toList());
+	}
+
+	private String truncate(String value) {
+		if (value == null) {
+			return null;
+		}
+		return value.length() > 1000 ? value.substring(0, 1000) : value;
+	}
+
+	private Counter dispatchCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("notification.outbox.dispatched")
+			.description("알림 outbox 처리 결과 (sent, retry, dead)")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		dispatcher.shutdownNow();
+	}
+
+	private record Claimed(Long id, String title, String body, String recipientIds, int attempt) {
+	}
+}
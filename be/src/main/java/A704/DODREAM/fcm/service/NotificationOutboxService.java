@@ -0,0 +1,47 @@
+package A704.DODREAM.fcm.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+import org.springframework.stereotype.Service;
+
+import A704.DODREAM.fcm.entity.NotificationOutbox;
+import A704.DODREAM.fcm.enums.OutboxStatus;
+import A704.DODREAM.fcm.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 푸시 알림 등록 (outbox)
+ * 호출한 쪽 트랜잭션 안에서 저장되므로 알림을 발생시킨 데이터가 커밋될 때만 전송된다.
+ * 실제 전송은 커밋 후 NotificationDispatcher가 별도 스레드에서 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+	private final NotificationOutboxRepository notificationOutboxRepository;
+	private final NotificationDispatcher notificationDispatcher;
+
+	public void enqueue(Collection<Long> userIds, String title, String body) {
+		if (userIds == null || userIds.isEmpty()) {
+			return;
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		NotificationOutbox outbox = notificationOutboxRepository.save(NotificationOutbox.builder()
+			.title(title)
+			.body(body)
+			.recipientIds(NotificationDispatcher.joinIds(new LinkedHashSet<>(userIds)))
+			.status(OutboxStatus.PENDING)
+			.attempts(0)
+			.nextAttemptAt(now)
+			.createdAt(now)
+			.build());
+
+		notificationDispatcher.wakeUpAfterCommit();
+		log.debug("알림 outbox 등록: outboxId={}, 대상 {}명", outbox.getId(), userIds.size());
+	}
+}
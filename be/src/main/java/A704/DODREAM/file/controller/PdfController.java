@@ -1,7 +1,9 @@
 package A704.DODREAM.file.controller;
 
 import A704.DODREAM.auth.dto.request.UserPrincipal;
+import A704.DODREAM.file.dto.ParseJobResponse;
 import A704.DODREAM.file.entity.UploadedFile;
+import A704.DODREAM.file.service.PdfParseJobService;
 import A704.DODREAM.file.service.PdfService;
 import A704.DODREAM.file.service.TempPdfDataService;
 import A704.DODREAM.material.dto.PublishRequest;
@@ -17,6 +19,7 @@ import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -30,6 +33,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/pdf")
@@ -39,6 +43,9 @@ public class PdfController {
 	@Autowired
 	private PdfService pdfService;
 
+	@Autowired
+	private PdfParseJobService pdfParseJobService;
+
 	@Autowired
 	private TempPdfDataService tempPdfDataService;
 
@@ -71,6 +78,88 @@ public class PdfController {
 		return ResponseEntity.ok(result);
 	}
 
+	/**
+	 * PDF 업로드 + 파싱 작업 등록 (파싱은 비동기)
+	 * 업로드가 끝나면 작업 id를 반환하고, 진행 상황은 조회 API 또는 SSE로 확인
+	 */
+	@Operation(
+		summary = "PDF 업로드 및 파싱 작업 등록",
+		description = "PDF 바이너리를 S3에 업로드한 뒤 파싱 작업을 등록하고 작업 id를 반환합니다. " +
+			"AI 파싱, JSON 저장, 임베딩 요청은 백그라운드에서 순서대로 처리됩니다. " +
+			"진행 상황은 GET /api/pdf/parse-jobs/{jobId} 또는 /events(SSE)로 확인합니다."
+	)
+	@PostMapping(value = "/parse-jobs", consumes = "application/pdf")
+	public ResponseEntity<ParseJobResponse> submitParseJob(
+		@RequestBody byte[] pdfBytes,
+		@Parameter(description = "PDF 파일명 (예: document.pdf)")
+		@RequestParam(value = "filename", defaultValue = "document.pdf") String filename,
+		@AuthenticationPrincipal UserPrincipal userPrincipal,
+		HttpServletRequest httpServletRequest
+	) {
+		Long userId = (userPrincipal != null) ? userPrincipal.userId() : 1L; // 기본값 1L (테스트용)
+		String authorizationHeader = httpServletRequest.getHeader("Authorization");
+		ParseJobResponse result = pdfParseJobService.submit(pdfBytes, filename, userId, authorizationHeader);
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+	}
+
+	/**
+	 * PDF 스트리밍 업로드 + 파싱 작업 등록
+	 * 요청 바디를 메모리에 모으지 않고 S3 멀티파트 업로드로 바로 전송 (대용량 PDF용)
+	 */
+	@Operation(
+		summary = "PDF 스트리밍 업로드 및 파싱 작업 등록",
+		description = "PDF 바이너리를 S3로 스트리밍 업로드한 뒤 파싱 작업을 등록하고 작업 id를 반환합니다. " +
+			"업로드 중 서버 메모리 사용량은 파트 크기(aws.s3.multipart.part-size-mb)로 제한됩니다. " +
+			"aws.s3.multipart.max-size를 넘으면 업로드를 중단하고 FILE_413을 반환합니다. " +
+			"진행 상황은 GET /api/pdf/parse-jobs/{jobId} 또는 /events(SSE)로 확인합니다."
+	)
+	@PostMapping(value = "/parse-jobs/stream", consumes = "application/pdf")
+	public ResponseEntity<ParseJobResponse> submitStreamingParseJob(
+		@Parameter(description = "PDF 파일명 (예: document.pdf)")
+		@RequestParam(value = "filename", defaultValue = "document.pdf") String filename,
+		@AuthenticationPrincipal UserPrincipal userPrincipal,
+		HttpServletRequest httpServletRequest
+	) throws IOException {
+		Long userId = (userPrincipal != null) ? userPrincipal.userId() : 1L; // 기본값 1L (테스트용)
+		String authorizationHeader = httpServletRequest.getHeader("Authorization");
+		UploadedFile uploadedFile = pdfService.uploadPdfStream(httpServletRequest.getInputStream(), filename, userId);
+		ParseJobResponse result = pdfParseJobService.submitUploaded(uploadedFile, authorizationHeader);
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+	}
+
+	/**
+	 * PDF 업로드 + 파싱 작업 상태 조회
+	 */
+	@Operation(
+		summary = "PDF 파싱 작업 상태 조회",
+		description = "작업의 현재 단계(QUEUED, UPLOADING, PARSING, SAVING, EMBEDDING, COMPLETED, FAILED)와 진행률을 반환합니다. " +
+			"완료되면 pdfId로 파싱 결과를 조회할 수 있습니다."
+	)
+	@GetMapping("/parse-jobs/{jobId}")
+	public ResponseEntity<ParseJobResponse> getParseJob(
+		@PathVariable String jobId,
+		@AuthenticationPrincipal UserPrincipal userPrincipal
+	) {
+		Long userId = (userPrincipal != null) ? userPrincipal.userId() : 1L; // 기본값 1L (테스트용)
+		return ResponseEntity.ok(pdfParseJobService.getJob(jobId, userId));
+	}
+
+	/**
+	 * PDF 업로드 + 파싱 작업 진행 상황 구독 (SSE)
+	 */
+	@Operation(
+		summary = "PDF 파싱 작업 진행 상황 구독 (SSE)",
+		description = "단계가 바뀔 때마다 progress 이벤트로 작업 상태를 전송하고, 작업이 끝나면 스트림을 닫습니다."
+	)
+	@GetMapping(value = "/parse-jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter subscribeParseJob(
+		@PathVariable String jobId,
+		@AuthenticationPrincipal UserPrincipal userPrincipal
+	) {
+		Long userId = (userPrincipal != null) ? userPrincipal.userId() : 1L; // 기본값 1L (테스트용)
+		return pdfParseJobService.subscribe(jobId, userId);
+	}
+
 	/**
 	 * PDF 업로드 + 파싱 통합 API (multipart/form-data)
 	 * 폼 데이터로 파일 전송
@@ -0,0 +1,25 @@
+package A704.DODREAM.file.dto;
+
+import java.time.LocalDateTime;
+
+import A704.DODREAM.file.service.ParseJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParseJobResponse {
+	private String jobId;
+	private ParseJob.Stage stage;
+	private int progress;
+	private Long pdfId;
+	private String filename;
+	private String message;
+	private String error;
+	private LocalDateTime createdAt;
+	private LocalDateTime updatedAt;
+}
@@ -42,6 +42,9 @@ public class OcrPage {
 	@Column(columnDefinition = "TEXT")
 	private String fullText; // 페이지 전체 텍스트
 
+	@Column(columnDefinition = "MEDIUMBLOB")
+	private byte[] wordGeometry; // 단어 좌표/텍스트 압축 포맷 (PackedWordGeometry)
+
 	@OneToMany(mappedBy = "ocrPage", cascade = CascadeType.ALL, orphanRemoval = true)
 	@Builder.Default
 	private List<OcrWord> words = new ArrayList<>();
@@ -0,0 +1,58 @@
+package A704.DODREAM.file.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PDF 내용(SHA-256)별 파싱 결과 원본
+ * 같은 PDF가 다시 업로드되면 FastAPI 파싱 없이 jsonS3Key의 JSON을 복사해 사용한다.
+ * jsonS3Key는 발행 등으로 덮어쓰지 않는 불변 객체이다.
+ */
+@Entity
+@Table(name = "parsed_contents",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_content_hash", columnNames = {"content_hash"})
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ParsedContent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "content_hash", nullable = false, length = 64)
+	private String contentHash; // PDF SHA-256 (hex)
+
+	@Column(nullable = false)
+	private String jsonS3Key; // 파싱 결과 원본 JSON의 S3 경로
+
+	@Column(columnDefinition = "TEXT")
+	private String indexes; // 목차 (검색용)
+
+	private Long sourcePdfId; // 처음 파싱한 UploadedFile ID
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@PrePersist
+	protected void onCreate() {
+		this.createdAt = LocalDateTime.now();
+	}
+}
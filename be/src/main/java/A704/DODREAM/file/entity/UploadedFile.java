@@ -12,6 +12,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -23,7 +24,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "uploaded_files")
+@Table(name = "uploaded_files", indexes = {
+	@Index(name = "idx_content_hash", columnList = "content_hash")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -53,6 +56,9 @@ public class UploadedFile {
 
 	private String contentType;
 
+	@Column(name = "content_hash", length = 64)
+	private String contentHash; // PDF SHA-256 (hex), 같은 PDF의 파싱 결과 재사용에 사용
+
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false)
 	@Builder.Default
@@ -0,0 +1,14 @@
+package A704.DODREAM.file.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import A704.DODREAM.file.entity.ParsedContent;
+
+@Repository
+public interface ParsedContentRepository extends JpaRepository<ParsedContent, Long> {
+
+	Optional<ParsedContent> findByContentHash(String contentHash);
+}
@@ -1,12 +1,11 @@
 package A704.DODREAM.file.service;
 
-import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
@@ -33,17 +32,23 @@ public class ClovaOcrService {
 	private String secretKey;
 
 	/**
-	 * 이미지 파일을 Clova OCR로 전송하여 텍스트 추출
+	 * 메모리의 이미지 바이트를 그대로 multipart로 전송하여 텍스트 추출 (디스크 I/O 없음)
 	 */
-	public PageOcrResult processImage(File imageFile, int pageNumber) {
-		log.info("Processing OCR for page {}: {}", pageNumber, imageFile.getName());
+	public PageOcrResult processImage(PdfPageStream.PageImage pageImage) {
+		log.info("Processing OCR for page {}: {} bytes ({})",
+			pageImage.pageNumber(), pageImage.data().length, pageImage.format());
 
-		try {
-			// Multipart 요청 생성
-			MultipartBodyBuilder builder = new MultipartBodyBuilder();
-			builder.part("file", new FileSystemResource(imageFile));
-			builder.part("message", createRequestMessage());
+		MultipartBodyBuilder builder = new MultipartBodyBuilder();
+		builder.part("file", new ByteArrayResource(pageImage.data()))
+			.filename(pageImage.filename())
+			.contentType(pageImage.format().equalsIgnoreCase("png") ? MediaType.IMAGE_PNG : MediaType.IMAGE_JPEG);
+		builder.part("message", createRequestMessage(pageImage.format()));
+
+		return requestOcr(builder, pageImage.pageNumber());
+	}
 
+	private PageOcrResult requestOcr(MultipartBodyBuilder builder, int pageNumber) {
+		try {
 			// API 호출
 			ClovaOcrResponse response = webClient.post()
 				.uri(apiUrl)
@@ -130,7 +135,7 @@ public class ClovaOcrService {
 	/**
 	 * Clova OCR API 요청 메시지 생성
 	 */
-	private String createRequestMessage() {
+	private String createRequestMessage(String format) {
 		return """
 			{
 			  "version": "V2",
@@ -138,11 +143,11 @@ public class ClovaOcrService {
 			  "timestamp": %d,
 			  "images": [
 			    {
-			      "format": "png",
+			      "format": "%s",
 			      "name": "image"
 			    }
 			  ]
 			}
-			""".formatted(System.currentTimeMillis());
+			""".formatted(System.currentTimeMillis(), format);
 	}
 }
\ No newline at end of file
@@ -9,9 +9,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import A704.DODREAM.file.entity.DocumentSection;
 import A704.DODREAM.file.entity.OcrPage;
-import A704.DODREAM.file.entity.OcrWord;
 import A704.DODREAM.file.entity.UploadedFile;
 import A704.DODREAM.file.repository.DocumentSectionRepository;
+import A704.DODREAM.file.repository.OcrPageRepository;
+import A704.DODREAM.file.repository.UploadedFileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,6 +22,8 @@ import lombok.extern.slf4j.Slf4j;
 public class HeadingDetectionService {
 
 	private final DocumentSectionRepository documentSectionRepository;
+	private final UploadedFileRepository uploadedFileRepository;
+	private final OcrPageRepository ocrPageRepository;
 
 	// 제목 패턴들
 	private static final Pattern[] HEADING_PATTERNS = {
@@ -34,17 +37,33 @@ public class HeadingDetectionService {
 		Pattern.compile("^[가-힣]{1,10}\\s*\\d+"),      // "단원 1", "Chapter 1"
 	};
 
+	/**
+	 * OCR 완료 후 제목 감지 및 섹션 생성 (파일 ID 사용)
+	 * OCR 결과가 별도 트랜잭션으로 저장된 경우 DB에서 페이지를 다시 읽어 처리
+	 */
+	@Transactional
+	public List<DocumentSection> detectAndCreateSections(Long fileId) {
+		UploadedFile uploadedFile = uploadedFileRepository.findById(fileId)
+			.orElseThrow(() -> new RuntimeException("File not found: " + fileId));
+
+		return createSections(uploadedFile, ocrPageRepository.findByUploadedFileIdOrderByPageNumberAsc(fileId));
+	}
+
 	/**
 	 * OCR 완료 후 제목 감지 및 섹션 생성
 	 */
 	@Transactional
 	public List<DocumentSection> detectAndCreateSections(UploadedFile uploadedFile) {
+		return createSections(uploadedFile, uploadedFile.getOcrPages());
+	}
+
+	private List<DocumentSection> createSections(UploadedFile uploadedFile, List<OcrPage> pages) {
 		log.info("Starting heading detection for file ID: {}", uploadedFile.getId());
 
 		List<DocumentSection> sections = new ArrayList<>();
 		int sectionOrder = 0;
 
-		for (OcrPage page : uploadedFile.getOcrPages()) {
+		for (OcrPage page : pages) {
 			List<HeadingCandidate> candidates = findHeadingCandidates(page);
 
 			for (HeadingCandidate candidate : candidates) {
@@ -81,21 +100,24 @@ public class HeadingDetectionService {
 	private List<HeadingCandidate> findHeadingCandidates(OcrPage page) {
 		List<HeadingCandidate> candidates = new ArrayList<>();
 
-		if (page.getWords().isEmpty()) {
+		// 단어 엔티티 대신 압축 포맷 리더로 순회
+		PackedWordGeometry words = PackedWordGeometry.of(page);
+		if (words.isEmpty()) {
 			return candidates;
 		}
 
 		// 1. 평균 글자 크기 계산
-		double avgHeight = calculateAverageHeight(page.getWords());
+		double avgHeight = calculateAverageHeight(words);
 		log.debug("Page {} average height: {}", page.getPageNumber(), avgHeight);
 
 		// 2. 큰 글자 찾기
-		for (OcrWord word : page.getWords()) {
-			int height = word.getY3() - word.getY1();
+		PackedWordGeometry.Cursor word = words.cursor();
+		while (word.next()) {
+			int height = word.height();
 
 			// 조건 1: 평균보다 1.4배 이상 큰 글자 (임계값 낮춤)
 			if (height >= avgHeight * 1.4) {
-				String text = word.getText().trim();
+				String text = word.text().trim();
 
 				// 조건 2: 제목 패턴 매칭 또는 충분히 큰 글자
 				if (isHeadingPattern(text) || height >= avgHeight * 1.8) {
@@ -119,14 +141,14 @@ public class HeadingDetectionService {
 	/**
 	 * 평균 글자 높이 계산
 	 */
-	private double calculateAverageHeight(List<OcrWord> words) {
+	private double calculateAverageHeight(PackedWordGeometry words) {
 		if (words.isEmpty()) {
 			return 0;
 		}
 
-		int totalHeight = 0;
-		for (OcrWord word : words) {
-			totalHeight += (word.getY3() - word.getY1());
+		long totalHeight = 0;
+		for (int i = 0; i < words.size(); i++) {
+			totalHeight += words.height(i);
 		}
 
 		return (double)totalHeight / words.size();
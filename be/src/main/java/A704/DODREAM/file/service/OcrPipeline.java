@@ -0,0 +1,240 @@
+package A704.DODREAM.file.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import A704.DODREAM.file.dto.PageOcrResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 페이지 단위 OCR 파이프라인
+ * <p>
+ * 렌더링 → OCR → 저장 3단계로 나누어 페이지 N을 OCR 하는 동안 페이지 N+1을 렌더링한다.
+ * - 렌더링/저장: 호출한 스레드에서 실행 (JPA 영속성 컨텍스트 유지)
+ * - OCR: 전용 스레드풀에서 실행, 파일당 동시 요청 수(max-in-flight)와 초당 요청 수(requests-per-second) 제한
+ *   (spring.threads.virtual.enabled=true이면 요청마다 가상 스레드에서 실행, 파일당/초당 제한은 동일)
+ * - 저장: OCR이 끝난 순서와 관계없이 항상 페이지 순서대로 pageWriter에 전달
+ *   (max-in-flight는 렌더링 후 저장이 끝날 때까지의 페이지 수이므로, 앞 페이지가 늦어도 결과가 쌓이지 않음)
+ * <p>
+ * 단계별 소요 시간은 ocr.pipeline.stage 타이머(stage=render|ocr|save)로 기록한다.
+ */
+@Slf4j
+@Component
+public class OcrPipeline {
+
+	private final PdfProcessService pdfProcessService;
+	private final ClovaOcrService clovaOcrService;
+	private final AsyncTaskExecutor ocrExecutor;
+	private final int maxInFlight;
+	private final long rateIntervalNanos;
+
+	private final Timer renderTimer;
+	private final Timer ocrTimer;
+	private final Timer saveTimer;
+
+	private final Object rateLock = new Object();
+	private long nextRequestNanos = System.nanoTime();
+
+	public OcrPipeline(
+		PdfProcessService pdfProcessService,
+		ClovaOcrService clovaOcrService,
+		MeterRegistry meterRegistry,
+		Environment environment,
+		@Value("${clova.ocr.max-in-flight:4}") int maxInFlight,
+		@Value("${clova.ocr.requests-per-second:5}") double requestsPerSecond) {
+		this.pdfProcessService = pdfProcessService;
+		this.clovaOcrService = clovaOcrService;
+		this.maxInFlight = Math.max(1, maxInFlight);
+		this.rateIntervalNanos = requestsPerSecond > 0 ? (long)(TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) : 0;
+
+		if (Threading.VIRTUAL.isActive(environment)) {
+			this.ocrExecutor = new VirtualThreadTaskExecutor("ocr-request-");
+		} else {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(this.maxInFlight);
+			executor.setMaxPoolSize(this.maxInFlight);
+			executor.setThreadNamePrefix("ocr-request-");
+			executor.setDaemon(true);
+			executor.initialize();
+			this.ocrExecutor = executor;
+		}
+
+		this.renderTimer = stageTimer(meterRegistry, "render");
+		this.ocrTimer = stageTimer(meterRegistry, "ocr");
+		this.saveTimer = stageTimer(meterRegistry, "save");
+	}
+
+	/**
+	 * PDF 전체를 OCR 처리
+	 * 페이지 하나가 실패해도 나머지 페이지는 계속 진행한다.
+	 *
+	 * @param pdfFile    OCR 대상 PDF
+	 * @param pageWriter 페이지 순서대로 호출되는 결과 저장 콜백
+	 * @return 성공한 페이지 수
+	 */
+	public int run(File pdfFile, Consumer<PageOcrResult> pageWriter) throws IOException, InterruptedException {
+		Semaphore inFlight = new Semaphore(maxInFlight);
+		Deque<PendingPage> pending = new ArrayDeque<>();
+		StageTimes times = new StageTimes();
+		int succeeded = 0;
+		long startNanos = System.nanoTime();
+
+		try (PdfPageStream pageStream = pdfProcessService.openPageStream(pdfFile)) {
+			int pageCount = pageStream.getPageCount();
+			log.info("OCR pipeline started: {} pages, maxInFlight={}", pageCount, maxInFlight);
+
+			while (pageStream.hasNext()) {
+				// 저장 전 페이지가 가득 차면 맨 앞 페이지를 기다려 저장한 뒤 렌더링 (메모리 상한)
+				while (!inFlight.tryAcquire()) {
+					succeeded += writePage(pending.poll(), pageWriter, times, inFlight);
+				}
+
+				PdfPageStream.PageImage pageImage;
+				long renderStart = System.nanoTime();
+				try {
+					pageImage = pageStream.next();
+				} catch (IOException e) {
+					inFlight.release();
+					log.error("Failed to render page: {}", e.getMessage(), e);
+					continue;
+				} finally {
+					times.render.addAndGet(record(renderTimer, renderStart));
+				}
+
+				pending.add(new PendingPage(pageImage.pageNumber(), ocrExecutor.submit(() -> {
+					acquireRateSlot();
+					long ocrStart = System.nanoTime();
+					try {
+						// 인코딩된 바이트를 그대로 multipart로 전송 (디스크 I/O 없음)
+						return clovaOcrService.processImage(pageImage);
+					} finally {
+						times.ocr.addAndGet(record(ocrTimer, ocrStart));
+					}
+				})));
+
+				// 앞쪽 페이지가 끝났으면 순서대로 저장
+				while (!pending.isEmpty() && pending.peek().future().isDone()) {
+					succeeded += writePage(pending.poll(), pageWriter, times, inFlight);
+				}
+			}
+
+			// 남은 페이지를 순서대로 대기하며 저장
+			while (!pending.isEmpty()) {
+				succeeded += writePage(pending.poll(), pageWriter, times, inFlight);
+			}
+
+			log.info("OCR pipeline completed: {}/{} pages in {} ms (render={} ms, ocr={} ms, save={} ms)",
+				succeeded, pageCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+				TimeUnit.NANOSECONDS.toMillis(times.render.get()),
+				TimeUnit.NANOSECONDS.toMillis(times.ocr.get()),
+				TimeUnit.NANOSECONDS.toMillis(times.save.get()));
+
+			return succeeded;
+		} finally {
+			// 예외로 중단된 경우 남은 OCR 요청 취소
+			for (PendingPage page : pending) {
+				page.future().cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * 페이지 결과 저장 후 슬롯 반환 (OCR 실패/저장 실패여도 반환)
+	 */
+	private int writePage(PendingPage page, Consumer<PageOcrResult> pageWriter, StageTimes times,
+		Semaphore inFlight) throws InterruptedException {
+		try {
+			PageOcrResult result;
+			try {
+				result = page.future().get();
+			} catch (ExecutionException e) {
+				log.error("Failed to process page {}: {}", page.pageNumber(), e.getCause().getMessage(),
+					e.getCause());
+				return 0;
+			}
+
+			long saveStart = System.nanoTime();
+			try {
+				pageWriter.accept(result);
+				log.info("Page {} OCR completed", page.pageNumber());
+				return 1;
+			} catch (Exception e) {
+				log.error("Failed to save page {}: {}", page.pageNumber(), e.getMessage(), e);
+				return 0;
+			} finally {
+				times.save.addAndGet(record(saveTimer, saveStart));
+			}
+		} finally {
+			inFlight.release();
+		}
+	}
+
+	/**
+	 * 초당 요청 수 제한 (모든 파일의 OCR 요청이 공유)
+	 */
+	private void acquireRateSlot() throws InterruptedException {
+		if (rateIntervalNanos <= 0) {
+			return;
+		}
+
+		long waitNanos;
+		synchronized (rateLock) {
+			long now = System.nanoTime();
+			long slot = Math.max(now, nextRequestNanos);
+			nextRequestNanos = slot + rateIntervalNanos;
+			waitNanos = slot - now;
+		}
+
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+
+	private long record(Timer timer, long startNanos) {
+		long elapsed = System.nanoTime() - startNanos;
+		timer.record(elapsed, TimeUnit.NANOSECONDS);
+		return elapsed;
+	}
+
+	private Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+		return Timer.builder("ocr.pipeline.stage")
+			.description("OCR 파이프라인 단계별 소요 시간")
+			.tag("stage", stage)
+			.register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (ocrExecutor instanceof ThreadPoolTaskExecutor executor) {
+			executor.shutdown();
+		}
+	}
+
+	private record PendingPage(int pageNumber, Future<PageOcrResult> future) {
+	}
+
+	private static class StageTimes {
+		private final AtomicLong render = new AtomicLong();
+		private final AtomicLong ocr = new AtomicLong();
+		private final AtomicLong save = new AtomicLong();
+	}
+}
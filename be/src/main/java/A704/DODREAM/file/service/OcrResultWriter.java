@@ -0,0 +1,140 @@
+package A704.DODREAM.file.service;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import A704.DODREAM.file.dto.PageOcrResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OCR 결과 일괄 저장
+ * <p>
+ * OcrWord는 IDENTITY 전략이라 Hibernate 배치 INSERT가 동작하지 않으므로,
+ * 페이지 1건은 단건 INSERT로 id를 받고 단어들은 JdbcTemplate.batchUpdate로 저장한다.
+ * 페이지마다 짧은 트랜잭션으로 커밋한다.
+ * <p>
+ * 단어 저장 방식 (clova.ocr.word-storage)
+ * - PACKED: ocr_pages.word_geometry 바이너리 하나에 저장 (PackedWordGeometry, ocr_words 행 없음)
+ * - ROWS: 기존처럼 ocr_words 행으로 저장
+ * - BOTH: 둘 다 저장
+ * <p>
+ * MySQL에서 실제 multi-row INSERT가 되려면 rewriteBatchedStatements=true가 필요하다.
+ */
+@Slf4j
+@Component
+public class OcrResultWriter {
+
+	private static final String INSERT_PAGE_SQL =
+		"INSERT INTO ocr_pages (uploaded_file_id, page_number, full_text, word_geometry) VALUES (?, ?, ?, ?)";
+
+	private static final String INSERT_WORD_SQL =
+		"INSERT INTO ocr_words (ocr_page_id, text, confidence, x1, y1, x2, y2, x3, y3, x4, y4, word_order) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int batchSize;
+	private final WordStorage wordStorage;
+	private final Counter rowCounter;
+	private final Timer writeTimer;
+
+	public OcrResultWriter(
+		JdbcTemplate jdbcTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${clova.ocr.write-batch-size:500}") int batchSize,
+		@Value("${clova.ocr.word-storage:PACKED}") WordStorage wordStorage) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.batchSize = Math.max(1, batchSize);
+		this.wordStorage = wordStorage;
+		this.rowCounter = Counter.builder("ocr.writer.rows")
+			.description("OCR 결과 저장 행 수 (페이지 + 단어)")
+			.register(meterRegistry);
+		this.writeTimer = Timer.builder("ocr.writer.page")
+			.description("OCR 페이지 1건 저장 소요 시간")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * OCR 페이지 1건과 단어들을 저장 (페이지 단위 트랜잭션)
+	 *
+	 * @return 저장한 행 수 (페이지 1 + ocr_words 행 수)
+	 */
+	@Transactional
+	public int writePage(Long uploadedFileId, PageOcrResult pageResult) {
+		long start = System.nanoTime();
+
+		List<PageOcrResult.WordInfo> words = pageResult.getWords() != null ? pageResult.getWords() : List.of();
+		byte[] wordGeometry = wordStorage != WordStorage.ROWS ? PackedWordGeometry.encode(words) : null;
+
+		Long pageId = insertPage(uploadedFileId, pageResult, wordGeometry);
+		int rows = 1;
+
+		if (wordStorage != WordStorage.PACKED) {
+			insertWords(pageId, words);
+			rows += words.size();
+		}
+
+		long elapsedNanos = System.nanoTime() - start;
+		rowCounter.increment(rows);
+		writeTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+		double rowsPerSecond = elapsedNanos > 0 ? rows * (double)TimeUnit.SECONDS.toNanos(1) / elapsedNanos : rows;
+		log.debug("OCR page {} saved: {} words, {} rows in {} ms ({} rows/sec)",
+			pageResult.getPageNumber(), words.size(), rows, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+			Math.round(rowsPerSecond));
+
+		return rows;
+	}
+
+	private void insertWords(Long pageId, List<PageOcrResult.WordInfo> words) {
+		jdbcTemplate.batchUpdate(INSERT_WORD_SQL, words, batchSize, (ps, word) -> {
+			ps.setLong(1, pageId);
+			ps.setString(2, word.getText());
+			ps.setDouble(3, word.getConfidence());
+			ps.setInt(4, word.getX1());
+			ps.setInt(5, word.getY1());
+			ps.setInt(6, word.getX2());
+			ps.setInt(7, word.getY2());
+			ps.setInt(8, word.getX3());
+			ps.setInt(9, word.getY3());
+			ps.setInt(10, word.getX4());
+			ps.setInt(11, word.getY4());
+			ps.setInt(12, word.getOrder());
+		});
+	}
+
+	private Long insertPage(Long uploadedFileId, PageOcrResult pageResult, byte[] wordGeometry) {
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(connection -> {
+			PreparedStatement ps = connection.prepareStatement(INSERT_PAGE_SQL, Statement.RETURN_GENERATED_KEYS);
+			ps.setLong(1, uploadedFileId);
+			ps.setInt(2, pageResult.getPageNumber());
+			ps.setString(3, pageResult.getFullText());
+			ps.setBytes(4, wordGeometry);
+			return ps;
+		}, keyHolder);
+
+		Number key = keyHolder.getKey();
+		if (key == null) {
+			throw new IllegalStateException("OCR 페이지 id 생성 실패: page " + pageResult.getPageNumber());
+		}
+		return key.longValue();
+	}
+
+	public enum WordStorage {
+		ROWS,
+		PACKED,
+		BOTH
+	}
+}
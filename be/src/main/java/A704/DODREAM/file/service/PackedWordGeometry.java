@@ -0,0 +1,293 @@
+package A704.DODREAM.file.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import A704.DODREAM.file.dto.PageOcrResult;
+import A704.DODREAM.file.entity.OcrPage;
+import A704.DODREAM.file.entity.OcrWord;
+
+/**
+ * OCR 페이지 단어 좌표의 컬럼형 압축 포맷 + flyweight 리더
+ * <p>
+ * 페이지 하나의 단어들을 OcrWord 행 대신 바이너리 하나로 저장한다.
+ * <pre>
+ * [magic][version][count]
+ * [x1 * count][y1 * count][x2 * count][y2 * count][x3 * count][y3 * count][x4 * count][y4 * count]
+ * [confidence(float bits) * count][wordOrder * count]
+ * [textOffset * (count + 1)]
+ * [UTF-8 텍스트 바이트]
+ * </pre>
+ * 리더는 엔티티나 단어별 객체를 만들지 않고 인덱스로 바로 값을 읽는다.
+ * 텍스트는 text(i)를 호출할 때만 디코딩한다.
+ */
+public final class PackedWordGeometry {
+
+	private static final int MAGIC = 0x4F435257; // "OCRW"
+	private static final int VERSION = 1;
+	private static final int HEADER_INTS = 3;
+
+	private static final int COL_X1 = 0;
+	private static final int COL_Y1 = 1;
+	private static final int COL_X2 = 2;
+	private static final int COL_Y2 = 3;
+	private static final int COL_X3 = 4;
+	private static final int COL_Y3 = 5;
+	private static final int COL_X4 = 6;
+	private static final int COL_Y4 = 7;
+	private static final int COL_CONFIDENCE = 8;
+	private static final int COL_ORDER = 9;
+	private static final int INT_COLUMNS = 10;
+
+	private static final PackedWordGeometry EMPTY = wrap(encode(List.of()));
+
+	private final ByteBuffer buffer;
+	private final int count;
+	private final int textOffsetsIndex;
+	private final int textBase;
+
+	private PackedWordGeometry(ByteBuffer buffer) {
+		if (buffer.getInt(0) != MAGIC) {
+			throw new IllegalArgumentException("Invalid packed word geometry");
+		}
+		if (buffer.getInt(Integer.BYTES) != VERSION) {
+			throw new IllegalArgumentException("Unsupported packed word geometry version: " + buffer.getInt(4));
+		}
+
+		this.buffer = buffer;
+		this.count = buffer.getInt(2 * Integer.BYTES);
+		this.textOffsetsIndex = HEADER_INTS + INT_COLUMNS * count;
+		this.textBase = (textOffsetsIndex + count + 1) * Integer.BYTES;
+	}
+
+	/**
+	 * OCR 결과 단어들을 압축 포맷으로 인코딩
+	 */
+	public static byte[] encode(List<PageOcrResult.WordInfo> words) {
+		int count = words.size();
+		byte[][] texts = new byte[count][];
+		int textLength = 0;
+		for (int i = 0; i < count; i++) {
+			String text = words.get(i).getText();
+			texts[i] = text != null ? text.getBytes(StandardCharsets.UTF_8) : new byte[0];
+			textLength += texts[i].length;
+		}
+
+		int intCount = HEADER_INTS + INT_COLUMNS * count + count + 1;
+		ByteBuffer buffer = ByteBuffer.allocate(intCount * Integer.BYTES + textLength);
+		buffer.putInt(MAGIC).putInt(VERSION).putInt(count);
+
+		for (int column = 0; column < INT_COLUMNS; column++) {
+			for (PageOcrResult.WordInfo word : words) {
+				buffer.putInt(columnValue(word, column));
+			}
+		}
+
+		int offset = 0;
+		for (byte[] text : texts) {
+			buffer.putInt(offset);
+			offset += text.length;
+		}
+		buffer.putInt(offset);
+
+		for (byte[] text : texts) {
+			buffer.put(text);
+		}
+
+		return buffer.array();
+	}
+
+	public static PackedWordGeometry wrap(byte[] data) {
+		return new PackedWordGeometry(ByteBuffer.wrap(data).asReadOnlyBuffer());
+	}
+
+	/**
+	 * 페이지의 단어 좌표 리더
+	 * 압축 포맷이 없는 기존 페이지는 OcrWord 행으로 구성
+	 */
+	public static PackedWordGeometry of(OcrPage page) {
+		return page.getWordGeometry() != null
+			? wrap(page.getWordGeometry())
+			: fromEntities(page.getWords());
+	}
+
+	private static PackedWordGeometry fromEntities(List<OcrWord> words) {
+		if (words.isEmpty()) {
+			return EMPTY;
+		}
+
+		List<PageOcrResult.WordInfo> infos = words.stream()
+			.map(word -> PageOcrResult.WordInfo.builder()
+				.text(word.getText())
+				.confidence(word.getConfidence())
+				.x1(word.getX1())
+				.y1(word.getY1())
+				.x2(word.getX2())
+				.y2(word.getY2())
+				.x3(word.getX3())
+				.y3(word.getY3())
+				.x4(word.getX4())
+				.y4(word.getY4())
+				.order(word.getWordOrder())
+				.build())
+			.toList();
+		return wrap(encode(infos));
+	}
+
+	public int size() {
+		return count;
+	}
+
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	public int x1(int index) {
+		return intAt(COL_X1, index);
+	}
+
+	public int y1(int index) {
+		return intAt(COL_Y1, index);
+	}
+
+	public int x2(int index) {
+		return intAt(COL_X2, index);
+	}
+
+	public int y2(int index) {
+		return intAt(COL_Y2, index);
+	}
+
+	public int x3(int index) {
+		return intAt(COL_X3, index);
+	}
+
+	public int y3(int index) {
+		return intAt(COL_Y3, index);
+	}
+
+	public int x4(int index) {
+		return intAt(COL_X4, index);
+	}
+
+	public int y4(int index) {
+		return intAt(COL_Y4, index);
+	}
+
+	public float confidence(int index) {
+		return Float.intBitsToFloat(intAt(COL_CONFIDENCE, index));
+	}
+
+	public int wordOrder(int index) {
+		return intAt(COL_ORDER, index);
+	}
+
+	/**
+	 * 글자 높이 (좌상단 Y ~ 우하단 Y)
+	 */
+	public int height(int index) {
+		return y3(index) - y1(index);
+	}
+
+	public String text(int index) {
+		checkIndex(index);
+		int start = buffer.getInt((textOffsetsIndex + index) * Integer.BYTES);
+		int end = buffer.getInt((textOffsetsIndex + index + 1) * Integer.BYTES);
+
+		byte[] bytes = new byte[end - start];
+		buffer.get(textBase + start, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 순회용 커서 (하나의 객체를 재사용)
+	 */
+	public Cursor cursor() {
+		return new Cursor();
+	}
+
+	private int intAt(int column, int index) {
+		checkIndex(index);
+		return buffer.getInt((HEADER_INTS + column * count + index) * Integer.BYTES);
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= count) {
+			throw new IndexOutOfBoundsException("word index " + index + " out of " + count);
+		}
+	}
+
+	private static int columnValue(PageOcrResult.WordInfo word, int column) {
+		return switch (column) {
+			case COL_X1 -> intOrZero(word.getX1());
+			case COL_Y1 -> intOrZero(word.getY1());
+			case COL_X2 -> intOrZero(word.getX2());
+			case COL_Y2 -> intOrZero(word.getY2());
+			case COL_X3 -> intOrZero(word.getX3());
+			case COL_Y3 -> intOrZero(word.getY3());
+			case COL_X4 -> intOrZero(word.getX4());
+			case COL_Y4 -> intOrZero(word.getY4());
+			case COL_CONFIDENCE -> Float.floatToIntBits(word.getConfidence() != null
+				? word.getConfidence().floatValue() : 0f);
+			case COL_ORDER -> intOrZero(word.getOrder());
+			default -> throw new IllegalArgumentException("Unknown column: " + column);
+		};
+	}
+
+	private static int intOrZero(Integer value) {
+		return value != null ? value : 0;
+	}
+
+	/**
+	 * 단어를 순서대로 가리키는 flyweight 커서
+	 * <pre>
+	 * PackedWordGeometry.Cursor cursor = geometry.cursor();
+	 * while (cursor.next()) {
+	 *     int height = cursor.height();
+	 * }
+	 * </pre>
+	 */
+	public final class Cursor {
+		private int index = -1;
+
+		private Cursor() {
+		}
+
+		public boolean next() {
+			return ++index < count;
+		}
+
+		public int index() {
+			return index;
+		}
+
+		public int x1() {
+			return PackedWordGeometry.this.x1(index);
+		}
+
+		public int y1() {
+			return PackedWordGeometry.this.y1(index);
+		}
+
+		public int x3() {
+			return PackedWordGeometry.this.x3(index);
+		}
+
+		public int y3() {
+			return PackedWordGeometry.this.y3(index);
+		}
+
+		public int height() {
+			return PackedWordGeometry.this.height(index);
+		}
+
+		public float confidence() {
+			return PackedWordGeometry.this.confidence(index);
+		}
+
+		public String text() {
+			return PackedWordGeometry.this.text(index);
+		}
+	}
+}
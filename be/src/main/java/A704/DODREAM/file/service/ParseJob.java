@@ -0,0 +1,95 @@
+package A704.DODREAM.file.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import A704.DODREAM.file.dto.ParseJobResponse;
+import lombok.Getter;
+
+/**
+ * PDF 업로드 + 파싱 작업 상태 (메모리 보관)
+ * <p>
+ * 작업 스레드가 단계를 바꿀 때마다 구독 중인 SSE emitter에 현재 상태를 전송한다.
+ */
+@Getter
+public class ParseJob {
+
+	private final String jobId = UUID.randomUUID().toString();
+	private final Long userId;
+	private final String filename;
+	private final LocalDateTime createdAt = LocalDateTime.now();
+
+	private volatile Stage stage = Stage.QUEUED;
+	private volatile Long pdfId;
+	private volatile String message;
+	private volatile String error;
+	private volatile LocalDateTime updatedAt = createdAt;
+
+	private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+	ParseJob(Long userId, String filename) {
+		this.userId = userId;
+		this.filename = filename;
+	}
+
+	void moveTo(Stage stage, String message) {
+		this.stage = stage;
+		this.message = message;
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	void complete(String message) {
+		moveTo(Stage.COMPLETED, message);
+	}
+
+	void fail(String error) {
+		this.error = error;
+		moveTo(Stage.FAILED, "PDF 업로드 및 파싱 실패");
+	}
+
+	void setPdfId(Long pdfId) {
+		this.pdfId = pdfId;
+	}
+
+	public boolean isFinished() {
+		return stage == Stage.COMPLETED || stage == Stage.FAILED;
+	}
+
+	public ParseJobResponse toResponse() {
+		return ParseJobResponse.builder()
+			.jobId(jobId)
+			.stage(stage)
+			.progress(stage.getProgress())
+			.pdfId(pdfId)
+			.filename(filename)
+			.message(message)
+			.error(error)
+			.createdAt(createdAt)
+			.updatedAt(updatedAt)
+			.build();
+	}
+
+	/**
+	 * 작업 단계 (progress: 대략적인 진행률 %)
+	 */
+	@Getter
+	public enum Stage {
+		QUEUED(0),
+		UPLOADING(10),
+		PARSING(30),
+		SAVING(80),
+		EMBEDDING(90),
+		COMPLETED(100),
+		FAILED(100);
+
+		private final int progress;
+
+		Stage(int progress) {
+			this.progress = progress;
+		}
+	}
+}
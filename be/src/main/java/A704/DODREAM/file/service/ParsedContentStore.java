@@ -0,0 +1,113 @@
+package A704.DODREAM.file.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import A704.DODREAM.file.entity.ParsedContent;
+import A704.DODREAM.file.repository.ParsedContentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+
+/**
+ * PDF 내용(SHA-256) 기준 파싱 결과 저장소
+ * <p>
+ * 처음 파싱된 JSON을 parsed-json/sha256/{hash}.json에 불변 원본으로 복사해 두고,
+ * 같은 PDF가 다시 업로드되면 원본을 새 파일의 JSON 키로 S3 서버 측 복사한다.
+ * (파일별 JSON은 발행 시 덮어쓰므로 키를 공유하지 않음)
+ * <p>
+ * 재사용 여부는 pdf.parse.dedup 카운터(result=hit|miss)로 기록한다.
+ */
+@Slf4j
+@Component
+public class ParsedContentStore {
+
+	private static final String CANONICAL_PREFIX = "parsed-json/sha256/";
+
+	// 같은 해시가 이미 있으면(uk_content_hash) 그대로 둠. 예외가 나지 않으므로 호출한 트랜잭션을 rollback-only로 만들지 않는다.
+	private static final String REGISTER_SQL =
+		"INSERT INTO parsed_contents (content_hash, json_s3_key, indexes, source_pdf_id, created_at) " +
+			"VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE id = id";
+
+	private final ParsedContentRepository parsedContentRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final S3Client s3Client;
+	private final String bucketName;
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	public ParsedContentStore(
+		ParsedContentRepository parsedContentRepository,
+		JdbcTemplate jdbcTemplate,
+		S3Client s3Client,
+		MeterRegistry meterRegistry,
+		@Value("${aws.s3.bucket}") String bucketName) {
+		this.parsedContentRepository = parsedContentRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.s3Client = s3Client;
+		this.bucketName = bucketName;
+		this.hitCounter = dedupCounter(meterRegistry, "hit");
+		this.missCounter = dedupCounter(meterRegistry, "miss");
+	}
+
+	/**
+	 * 같은 내용의 PDF 파싱 결과 조회
+	 */
+	public Optional<ParsedContent> find(String contentHash) {
+		if (contentHash == null) {
+			return Optional.empty();
+		}
+
+		Optional<ParsedContent> parsedContent = parsedContentRepository.findByContentHash(contentHash);
+		(parsedContent.isPresent() ? hitCounter : missCounter).increment();
+		return parsedContent;
+	}
+
+	/**
+	 * 파싱 결과 원본을 대상 키로 복사
+	 */
+	public void copyTo(ParsedContent parsedContent, String targetJsonS3Key) {
+		copy(parsedContent.getJsonS3Key(), targetJsonS3Key);
+	}
+
+	/**
+	 * 새로 파싱된 결과를 원본으로 등록
+	 * 다른 요청이 먼저 등록한 경우(같은 PDF 동시 업로드)에는 그대로 둔다.
+	 * JPA save 대신 JDBC upsert를 써서, 충돌해도 업로드 트랜잭션이 UnexpectedRollbackException으로 끝나지 않게 한다.
+	 */
+	public void register(String contentHash, String jsonS3Key, String indexes, Long pdfId) {
+		if (contentHash == null) {
+			return;
+		}
+
+		String canonicalKey = CANONICAL_PREFIX + contentHash + ".json";
+		copy(jsonS3Key, canonicalKey);
+
+		jdbcTemplate.update(REGISTER_SQL, contentHash, canonicalKey, indexes, pdfId,
+			Timestamp.valueOf(LocalDateTime.now()));
+		log.info("파싱 결과 원본 등록: hash={}, pdfId={}", contentHash, pdfId);
+	}
+
+	private void copy(String sourceKey, String destinationKey) {
+		s3Client.copyObject(CopyObjectRequest.builder()
+			.sourceBucket(bucketName)
+			.sourceKey(sourceKey)
+			.destinationBucket(bucketName)
+			.destinationKey(destinationKey)
+			.build());
+	}
+
+	private Counter dedupCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("pdf.parse.dedup")
+			.description("PDF 파싱 결과 재사용 여부 (hit / (hit + miss) = 재사용률)")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
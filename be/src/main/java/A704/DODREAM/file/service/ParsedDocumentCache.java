@@ -0,0 +1,156 @@
+package A704.DODREAM.file.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import A704.DODREAM.material.document.MaterialDocument;
+import A704.DODREAM.material.document.MaterialDocumentReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * S3에 저장된 파싱 JSON 문서 캐시
+ * <p>
+ * jsonS3Key + ETag 조합을 키로 사용하므로 객체가 다시 쓰이면 자동으로 새 항목이 로드된다.
+ * 캐시 용량은 S3 객체 크기(byte) 기준으로 제한한다.
+ * Map 형태({@link #get})와 타입 모델({@link #getDocument})은 따로 적재되지만 같은 용량 한도와 무효화를 공유한다.
+ * 반환되는 Map/문서는 여러 요청이 공유한다.
+ * Map 형태는 중첩된 Map/List까지 모두 읽기 전용으로 감싸서 적재하므로 수정하면 UnsupportedOperationException이 난다.
+ * 타입 모델은 내부 List가 변경 가능하므로 호출하는 쪽에서 수정하면 안 된다.
+ */
+@Slf4j
+@Component
+public class ParsedDocumentCache {
+
+	private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+	};
+
+	private final S3Client s3Client;
+	private final ObjectMapper objectMapper;
+	private final MaterialDocumentReader materialDocumentReader;
+	private final String bucketName;
+	private final Cache<DocumentKey, CachedDocument> cache;
+
+	public ParsedDocumentCache(
+		S3Client s3Client,
+		ObjectMapper objectMapper,
+		MaterialDocumentReader materialDocumentReader,
+		MeterRegistry meterRegistry,
+		@Value("${aws.s3.bucket}") String bucketName,
+		@Value("${parsed-document-cache.max-weight-mb:256}") long maxWeightMb,
+		@Value("${parsed-document-cache.expire-after-access-minutes:30}") long expireAfterAccessMinutes) {
+		this.s3Client = s3Client;
+		this.objectMapper = objectMapper;
+		this.materialDocumentReader = materialDocumentReader;
+		this.bucketName = bucketName;
+		this.cache = Caffeine.newBuilder()
+			.maximumWeight(maxWeightMb * 1024 * 1024)
+			.weigher((DocumentKey key, CachedDocument value) -> (int)Math.min(value.sizeBytes(), Integer.MAX_VALUE))
+			.expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+			.recordStats()
+			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "parsedDocumentCache");
+	}
+
+	/**
+	 * jsonS3Key에 해당하는 JSON을 파싱된 Map으로 반환 (캐시 우선)
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<String, Object> get(String jsonS3Key) {
+		return (Map<String, Object>)get(jsonS3Key, Form.MAP);
+	}
+
+	/**
+	 * jsonS3Key에 해당하는 JSON을 타입 모델로 반환 (캐시 우선)
+	 */
+	public MaterialDocument getDocument(String jsonS3Key) {
+		return (MaterialDocument)get(jsonS3Key, Form.DOCUMENT);
+	}
+
+	private Object get(String jsonS3Key, Form form) {
+		HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+			.bucket(bucketName)
+			.key(jsonS3Key)
+			.build());
+
+		DocumentKey key = new DocumentKey(jsonS3Key, head.eTag(), form);
+		return cache.get(key, k -> load(k, head.contentLength())).data();
+	}
+
+	/**
+	 * 특정 jsonS3Key의 모든 버전을 캐시에서 제거 (발행 등으로 객체를 덮어쓴 경우)
+	 */
+	public void invalidate(String jsonS3Key) {
+		cache.asMap().keySet().removeIf(key -> key.jsonS3Key().equals(jsonS3Key));
+		log.info("파싱 문서 캐시 무효화: {}", jsonS3Key);
+	}
+
+	private CachedDocument load(DocumentKey key, Long contentLength) {
+		GetObjectRequest getRequest = GetObjectRequest.builder()
+			.bucket(bucketName)
+			.key(key.jsonS3Key())
+			.ifMatch(key.eTag())
+			.build();
+
+		try (ResponseInputStream<GetObjectResponse> response = s3Client.getObject(getRequest)) {
+			Object data = key.form() == Form.DOCUMENT
+				? materialDocumentReader.read(response)
+				: freeze(objectMapper.readValue(response, MAP_TYPE));
+			long sizeBytes = contentLength != null ? contentLength : response.response().contentLength();
+
+			log.info("파싱 문서 캐시 적재: key={}, form={}, size={} bytes", key.jsonS3Key(), key.form(), sizeBytes);
+			return new CachedDocument(data, sizeBytes);
+		} catch (Exception e) {
+			throw new RuntimeException("JSON 조회 실패: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 중첩된 Map/List까지 읽기 전용으로 감싸기 (Jackson이 만든 컬렉션을 제자리에서 교체)
+	 */
+	private static Map<String, Object> freeze(Map<String, Object> map) {
+		map.replaceAll((field, value) -> freezeValue(value));
+		return Collections.unmodifiableMap(map);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object freezeValue(Object value) {
+		if (value instanceof Map<?, ?> map) {
+			return freeze((Map<String, Object>)map);
+		}
+		if (value instanceof List<?> list) {
+			List<Object> items = (List<Object>)list;
+			items.replaceAll(ParsedDocumentCache::freezeValue);
+			return Collections.unmodifiableList(items);
+		}
+		return value;
+	}
+
+	private enum Form {
+		MAP, DOCUMENT
+	}
+
+	private record DocumentKey(String jsonS3Key, String eTag, Form form) {
+	}
+
+	private record CachedDocument(Object data, long sizeBytes) {
+	}
+}
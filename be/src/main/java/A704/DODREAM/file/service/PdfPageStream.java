@@ -0,0 +1,125 @@
+package A704.DODREAM.file.service;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PDF를 한 페이지씩 이미지로 인코딩하는 스트림 (임시 파일 없음)
+ * <p>
+ * 한 번에 한 페이지의 래스터만 메모리에 올리고, 인코딩 버퍼는 페이지 간 재사용한다.
+ * 스레드 안전하지 않으므로 한 스레드에서만 사용해야 한다.
+ */
+@Slf4j
+public class PdfPageStream implements AutoCloseable {
+
+	private final PDDocument document;
+	private final PDFRenderer pdfRenderer;
+	private final RenderOptions options;
+	/** 인코딩 버퍼 (reset()은 내부 배열을 유지하므로 페이지마다 다시 커지지 않음) */
+	private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024 * 1024);
+	private final int pageCount;
+	private int nextPageIndex = 0;
+
+	PdfPageStream(File pdfFile, RenderOptions options) throws IOException {
+		this.document = Loader.loadPDF(pdfFile);
+		this.pdfRenderer = new PDFRenderer(document);
+		this.options = options;
+		this.pageCount = document.getNumberOfPages();
+	}
+
+	public int getPageCount() {
+		return pageCount;
+	}
+
+	public boolean hasNext() {
+		return nextPageIndex < pageCount;
+	}
+
+	/**
+	 * 다음 페이지를 렌더링/인코딩
+	 * 렌더링에 실패해도 다음 호출은 그 다음 페이지로 진행한다.
+	 */
+	public PageImage next() throws IOException {
+		int pageIndex = nextPageIndex++;
+		ImageType imageType = options.grayscale() ? ImageType.GRAY : ImageType.RGB;
+		BufferedImage image = pdfRenderer.renderImageWithDPI(pageIndex, options.dpi(), imageType);
+
+		buffer.reset();
+		encode(image, buffer);
+		image.flush();
+
+		log.debug("Page {} rendered: {} bytes ({}, {} dpi)", pageIndex + 1, buffer.size(), options.format(),
+			options.dpi());
+		return new PageImage(pageIndex + 1, buffer.toByteArray(), options.format());
+	}
+
+	private void encode(BufferedImage image, ByteArrayOutputStream out) throws IOException {
+		if (!options.isJpeg()) {
+			ImageIO.write(image, options.format(), out);
+			return;
+		}
+
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+		if (!writers.hasNext()) {
+			throw new IOException("JPEG ImageWriter not available");
+		}
+
+		ImageWriter writer = writers.next();
+		try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(options.jpegQuality());
+
+			writer.setOutput(imageOut);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		document.close();
+	}
+
+	/**
+	 * 렌더링 옵션
+	 *
+	 * @param dpi         렌더링 해상도
+	 * @param format      인코딩 형식 (jpg 또는 png)
+	 * @param grayscale   흑백 렌더링 여부 (픽셀당 1byte)
+	 * @param jpegQuality JPEG 압축 품질 (0.0 ~ 1.0)
+	 */
+	public record RenderOptions(int dpi, String format, boolean grayscale, float jpegQuality) {
+
+		public boolean isJpeg() {
+			return "jpg".equalsIgnoreCase(format) || "jpeg".equalsIgnoreCase(format);
+		}
+	}
+
+	/**
+	 * 인코딩된 페이지 이미지
+	 */
+	public record PageImage(int pageNumber, byte[] data, String format) {
+
+		public String filename() {
+			return "page_" + pageNumber + "." + format;
+		}
+	}
+}
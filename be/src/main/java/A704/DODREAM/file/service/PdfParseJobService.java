@@ -0,0 +1,210 @@
+package A704.DODREAM.file.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import A704.DODREAM.file.dto.ParseJobResponse;
+import A704.DODREAM.file.entity.UploadedFile;
+import A704.DODREAM.global.exception.CustomException;
+import A704.DODREAM.global.exception.constant.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PDF 업로드 + 파싱 작업 (비동기)
+ * <p>
+ * PDF는 요청 스레드에서 S3에 올린 뒤 작업을 등록하고, 요청은 작업 id를 받아 바로 반환된다.
+ * (대기 중인 작업이 PDF 바이트를 들고 있지 않으므로 힙 사용량이 대기열 길이에 비례하지 않음)
+ * 파싱 → 저장 → 임베딩 단계는 전용 스레드풀에서 각각 PdfService의 단계 메서드로 실행되며
+ * 외부 트랜잭션이 없으므로 DB 쓰기는 단계마다 짧은 트랜잭션으로 커밋된다.
+ * (FastAPI 파싱 대기 중에는 DB 커넥션을 잡지 않음)
+ * <p>
+ * 작업 상태는 메모리에 보관하며(retention-minutes 후 제거), 조회 API와 SSE로 제공한다.
+ */
+@Slf4j
+@Service
+public class PdfParseJobService {
+
+	private static final String EVENT_NAME = "progress";
+
+	private final PdfService pdfService;
+	private final ThreadPoolExecutor jobExecutor;
+	private final Cache<String, ParseJob> jobs;
+	private final long sseTimeoutMillis;
+
+	public PdfParseJobService(
+		PdfService pdfService,
+		@Value("${pdf.parse-job.threads:4}") int threads,
+		@Value("${pdf.parse-job.queue-capacity:50}") int queueCapacity,
+		@Value("${pdf.parse-job.retention-minutes:60}") long retentionMinutes,
+		@Value("${pdf.parse-job.sse-timeout-minutes:15}") long sseTimeoutMinutes) {
+		this.pdfService = pdfService;
+		this.sseTimeoutMillis = TimeUnit.MINUTES.toMillis(sseTimeoutMinutes);
+
+		AtomicInteger threadCount = new AtomicInteger();
+		int poolSize = Math.max(1, threads);
+		this.jobExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+			Thread thread = new Thread(runnable, "pdf-parse-job-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		this.jobs = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofMinutes(retentionMinutes))
+			.build();
+	}
+
+	/**
+	 * 작업 등록 (파일 검증과 S3 업로드는 요청 스레드에서 수행)
+	 * 대기열이 이미 가득 차 있으면 업로드하지 않고 바로 거절한다.
+	 */
+	public ParseJobResponse submit(byte[] pdfBytes, String filename, Long userId, String authorizationHeader) {
+		pdfService.validatePdf(pdfBytes, filename);
+		if (jobExecutor.getQueue().remainingCapacity() == 0) {
+			log.warn("PDF 파싱 작업 대기열 초과: filename={}, userId={}", filename, userId);
+			throw new CustomException(ErrorCode.PARSE_JOB_QUEUE_FULL);
+		}
+
+		UploadedFile uploadedFile = pdfService.uploadPdf(pdfBytes, filename, userId);
+		return submitUploaded(uploadedFile, authorizationHeader);
+	}
+
+	/**
+	 * 이미 S3에 업로드된 PDF의 파싱 작업 등록
+	 */
+	public ParseJobResponse submitUploaded(UploadedFile uploadedFile, String authorizationHeader) {
+		ParseJob job = new ParseJob(uploadedFile.getUploaderId(), uploadedFile.getOriginalFileName());
+		job.setPdfId(uploadedFile.getId());
+		return enqueue(job, uploadedFile, authorizationHeader);
+	}
+
+	private ParseJobResponse enqueue(ParseJob job, UploadedFile uploadedFile, String authorizationHeader) {
+		job.moveTo(ParseJob.Stage.QUEUED, "대기 중");
+		jobs.put(job.getJobId(), job);
+
+		try {
+			jobExecutor.execute(() -> run(job, uploadedFile, authorizationHeader));
+		} catch (RejectedExecutionException e) {
+			jobs.invalidate(job.getJobId());
+			log.warn("PDF 파싱 작업 대기열 초과: filename={}, userId={}", job.getFilename(), job.getUserId());
+			throw new CustomException(ErrorCode.PARSE_JOB_QUEUE_FULL);
+		}
+
+		log.info("PDF 파싱 작업 등록: jobId={}, filename={}, userId={}", job.getJobId(), job.getFilename(),
+			job.getUserId());
+		return job.toResponse();
+	}
+
+	/**
+	 * 작업 상태 조회
+	 */
+	public ParseJobResponse getJob(String jobId, Long userId) {
+		return findJob(jobId, userId).toResponse();
+	}
+
+	/**
+	 * 작업 진행 상황 SSE 구독
+	 * 구독 즉시 현재 상태를 한 번 보내고, 작업이 끝나면 스트림을 닫는다.
+	 */
+	public SseEmitter subscribe(String jobId, Long userId) {
+		ParseJob job = findJob(jobId, userId);
+		SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+
+		job.getEmitters().add(emitter);
+		emitter.onCompletion(() -> job.getEmitters().remove(emitter));
+		emitter.onTimeout(() -> job.getEmitters().remove(emitter));
+		emitter.onError(e -> job.getEmitters().remove(emitter));
+
+		send(job, emitter);
+		return emitter;
+	}
+
+	private void run(ParseJob job, UploadedFile uploadedFile, String authorizationHeader) {
+		try {
+			// 같은 내용의 PDF가 이미 파싱되었으면 결과 재사용 (FastAPI 파싱 생략)
+			String jsonS3Key = pdfService.reuseParsedResult(uploadedFile);
+
+			if (jsonS3Key == null) {
+				update(job, ParseJob.Stage.PARSING, "PDF 파싱 중");
+				Map<String, Object> parsedData = pdfService.requestParse(uploadedFile.getS3Key());
+
+				update(job, ParseJob.Stage.SAVING, "파싱 결과 저장 중");
+				jsonS3Key = pdfService.saveParsedResult(uploadedFile, parsedData, job.getUserId());
+			}
+
+			update(job, ParseJob.Stage.EMBEDDING, "초기 임베딩 요청 중");
+			try {
+				pdfService.requestInitialEmbedding(uploadedFile.getId(), jsonS3Key, authorizationHeader);
+			} catch (Exception e) {
+				// 임베딩 실패가 작업 전체를 실패하게 하면 안 되므로 로그만 남김
+				log.error("⚠️ 초기 임베딩 생성 요청 실패 (jobId={}, pdfId={}): {}", job.getJobId(),
+					uploadedFile.getId(), e.getMessage());
+			}
+
+			job.complete("PDF 업로드 및 파싱 완료");
+			log.info("✅ PDF 파싱 작업 완료: jobId={}, pdfId={}", job.getJobId(), uploadedFile.getId());
+		} catch (Exception e) {
+			job.fail(e.getMessage());
+			log.error("❌ PDF 파싱 작업 실패: jobId={}, stage={}: {}", job.getJobId(), job.getStage(), e.getMessage(), e);
+		}
+
+		publish(job);
+		jobs.put(job.getJobId(), job); // 완료 시점부터 보관 기간 다시 계산
+	}
+
+	private void update(ParseJob job, ParseJob.Stage stage, String message) {
+		job.moveTo(stage, message);
+		publish(job);
+	}
+
+	private void publish(ParseJob job) {
+		for (SseEmitter emitter : job.getEmitters()) {
+			send(job, emitter);
+		}
+	}
+
+	private void send(ParseJob job, SseEmitter emitter) {
+		try {
+			emitter.send(SseEmitter.event()
+				.id(job.getJobId() + ":" + job.getStage())
+				.name(EVENT_NAME)
+				.data(job.toResponse()));
+			if (job.isFinished()) {
+				emitter.complete();
+			}
+		} catch (IOException | IllegalStateException e) {
+			// 클라이언트 연결 종료
+			job.getEmitters().remove(emitter);
+		}
+	}
+
+	private ParseJob findJob(String jobId, Long userId) {
+		ParseJob job = jobs.getIfPresent(jobId);
+		if (job == null) {
+			throw new CustomException(ErrorCode.PARSE_JOB_NOT_FOUND);
+		}
+		if (!job.getUserId().equals(userId)) {
+			throw new CustomException(ErrorCode.FORBIDDEN);
+		}
+		return job;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		jobExecutor.shutdownNow();
+	}
+}
@@ -0,0 +1,202 @@
+package A704.DODREAM.file.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import A704.DODREAM.global.exception.CustomException;
+import A704.DODREAM.global.exception.constant.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * InputStream을 S3로 스트리밍 업로드 (전체 파일을 메모리에 올리지 않음)
+ * <p>
+ * 고정 크기 파트 버퍼 하나를 재사용하며 S3 멀티파트 업로드로 전송한다.
+ * 업로드당 힙 사용량은 파트 크기(aws.s3.multipart.part-size-mb)로 제한된다.
+ * 파트 하나보다 작은 파일은 멀티파트 없이 PutObject 한 번으로 올린다.
+ * 읽는 동안 SHA-256 해시를 함께 계산한다.
+ * <p>
+ * 요청 바디를 바로 읽는 경우 multipart 크기 제한이 적용되지 않으므로 max-size(기본: multipart max-file-size)를
+ * 넘으면 업로드를 중단하고 FILE_TOO_LARGE를 던진다.
+ */
+@Slf4j
+@Component
+public class S3StreamingUploader {
+
+	/** S3 멀티파트 최소 파트 크기 (마지막 파트 제외) */
+	private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+	private final S3Client s3Client;
+	private final int partSize;
+	private final long maxBytes;
+
+	public S3StreamingUploader(
+		S3Client s3Client,
+		@Value("${aws.s3.multipart.part-size-mb:8}") int partSizeMb,
+		@Value("${aws.s3.multipart.max-size:${spring.servlet.multipart.max-file-size:2GB}}") DataSize maxSize) {
+		this.s3Client = s3Client;
+		this.partSize = Math.max(MIN_PART_SIZE, partSizeMb * 1024 * 1024);
+		this.maxBytes = maxSize.toBytes();
+	}
+
+	/**
+	 * 스트림 전체를 S3에 업로드
+	 * 실패하거나 max-size를 넘으면 진행 중인 멀티파트 업로드를 중단(abort)하고 예외를 던진다.
+	 *
+	 * @param in          업로드할 스트림 (닫지 않음)
+	 * @param bucket      S3 버킷
+	 * @param key         S3 키
+	 * @param contentType Content-Type
+	 * @param metadata    S3 사용자 메타데이터
+	 */
+	public Result upload(InputStream in, String bucket, String key, String contentType, Map<String, String> metadata)
+		throws IOException {
+		MessageDigest digest = sha256();
+		byte[] buffer = new byte[partSize];
+
+		int length = readPart(in, buffer);
+		if (length == 0) {
+			throw new IOException("Empty upload stream: " + key);
+		}
+		checkSize(length, key);
+		digest.update(buffer, 0, length);
+
+		// 파트 하나에 다 들어가면 단일 PutObject
+		if (length < partSize) {
+			s3Client.putObject(PutObjectRequest.builder()
+					.bucket(bucket)
+					.key(key)
+					.contentType(contentType)
+					.metadata(metadata)
+					.build(),
+				partBody(buffer, length));
+			return new Result(key, length, HexFormat.of().formatHex(digest.digest()), 1);
+		}
+
+		String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+			.bucket(bucket)
+			.key(key)
+			.contentType(contentType)
+			.metadata(metadata)
+			.build()).uploadId();
+
+		List<CompletedPart> parts = new ArrayList<>();
+		long totalBytes = 0;
+		try {
+			while (length > 0) {
+				int partNumber = parts.size() + 1;
+				UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+						.bucket(bucket)
+						.key(key)
+						.uploadId(uploadId)
+						.partNumber(partNumber)
+						.contentLength((long)length)
+						.build(),
+					partBody(buffer, length));
+
+				parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+				totalBytes += length;
+				log.debug("S3 multipart part {} uploaded: {} bytes ({})", partNumber, length, key);
+
+				length = readPart(in, buffer);
+				checkSize(totalBytes + length, key);
+				digest.update(buffer, 0, length);
+			}
+
+			s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.uploadId(uploadId)
+				.multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+				.build());
+		} catch (IOException | RuntimeException e) {
+			abort(bucket, key, uploadId);
+			throw e;
+		}
+
+		return new Result(key, totalBytes, HexFormat.of().formatHex(digest.digest()), parts.size());
+	}
+
+	private void checkSize(long bytes, String key) {
+		if (bytes > maxBytes) {
+			log.warn("S3 streaming upload exceeds max size {} bytes: {}", maxBytes, key);
+			throw new CustomException(ErrorCode.FILE_TOO_LARGE);
+		}
+	}
+
+	/**
+	 * 버퍼가 가득 차거나 스트림이 끝날 때까지 읽기
+	 *
+	 * @return 읽은 바이트 수 (스트림 끝이면 0)
+	 */
+	private int readPart(InputStream in, byte[] buffer) throws IOException {
+		return in.readNBytes(buffer, 0, buffer.length);
+	}
+
+	/**
+	 * 버퍼를 복사하지 않고 요청 바디로 사용
+	 */
+	private RequestBody partBody(byte[] buffer, int length) {
+		return RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length);
+	}
+
+	private void abort(String bucket, String key, String uploadId) {
+		try {
+			s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.uploadId(uploadId)
+				.build());
+			log.warn("S3 multipart upload aborted: {}", key);
+		} catch (RuntimeException e) {
+			log.error("Failed to abort S3 multipart upload {} ({}): {}", key, uploadId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 메모리에 있는 데이터의 SHA-256 (hex)
+	 */
+	public static String sha256Hex(byte[] data) {
+		return HexFormat.of().formatHex(sha256().digest(data));
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	/**
+	 * 업로드 결과
+	 *
+	 * @param key       S3 키
+	 * @param size      업로드한 바이트 수
+	 * @param sha256    콘텐츠 SHA-256 (hex)
+	 * @param partCount 파트 수 (단일 PutObject면 1)
+	 */
+	public record Result(String key, long size, String sha256, int partCount) {
+	}
+}
@@ -0,0 +1,73 @@
+package A704.DODREAM.global.client;
+
+/**
+ * 호출 종류별 서킷 브레이커
+ * <p>
+ * 연속 실패가 failureThreshold번 이상이면 열림(OPEN) 상태가 되어 openMillis 동안 호출을 바로 거절한다.
+ * 이후 시험 호출 하나만 허용하고(HALF_OPEN), 성공하면 닫히고 실패하면 다시 열린다.
+ */
+class AiCircuitBreaker {
+
+	enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final long openNanos;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAt;
+	private boolean trialInFlight;
+
+	AiCircuitBreaker(int failureThreshold, long openMillis) {
+		this.failureThreshold = Math.max(1, failureThreshold);
+		this.openNanos = openMillis * 1_000_000L;
+	}
+
+	/**
+	 * 호출 가능 여부 (true면 결과를 onSuccess/onFailure/onIgnored 중 하나로 알려야 함)
+	 */
+	synchronized boolean tryAcquire() {
+		if (state == State.OPEN) {
+			if (System.nanoTime() - openedAt < openNanos) {
+				return false;
+			}
+			state = State.HALF_OPEN;
+			trialInFlight = false;
+		}
+		if (state == State.HALF_OPEN) {
+			if (trialInFlight) {
+				return false;
+			}
+			trialInFlight = true;
+		}
+		return true;
+	}
+
+	synchronized void onSuccess() {
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+		trialInFlight = false;
+	}
+
+	synchronized void onFailure() {
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+			state = State.OPEN;
+			openedAt = System.nanoTime();
+		}
+		trialInFlight = false;
+	}
+
+	/**
+	 * 서버 상태와 관계없는 결과 (4xx, 취소 등)
+	 */
+	synchronized void onIgnored() {
+		trialInFlight = false;
+	}
+
+	synchronized State getState() {
+		return state;
+	}
+}
@@ -0,0 +1,42 @@
+package A704.DODREAM.global.client;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * FastAPI(AI 서버) 호출 종류
+ * <p>
+ * 종류마다 커넥션 풀, 타임아웃, 동시 호출 수(bulkhead), 서킷 브레이커, 지연 시간 히스토그램을 따로 둔다.
+ * 기본값은 fastapi.client.{key}.* 설정으로 바꿀 수 있다.
+ * 재시도는 같은 요청을 다시 보내도 결과가 같은(idempotent) 호출만 한다.
+ * 수 분씩 걸리는 LLM 호출은 서버에 닿지 못한 연결 오류만 재시도해, 타임아웃을 여러 번 기다리며 요청 스레드를 붙잡지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AiOperation {
+
+	PARSE_PDF("parse-pdf", "/document/parse-pdf-from-cloudfront", RetryScope.CONNECT, 600, 4),
+	PROCESS_CONCEPT_CHECK("concept-check", "/document/process-concept-check", RetryScope.CONNECT, 300, 4),
+	CREATE_EMBEDDING("embedding", "/rag/embeddings/create", RetryScope.NONE, 60, 8),
+	CREATE_INITIAL_EMBEDDING("initial-embedding", "/rag/embeddings/create-initial", RetryScope.NONE, 30, 8),
+	GRADE_QUIZ("quiz-grade", "/rag/quiz/grade-batch", RetryScope.ALL, 60, 16);
+
+	/** 설정/메트릭 태그에 쓰는 이름 */
+	private final String key;
+	private final String path;
+	private final RetryScope retryScope;
+	private final long defaultTimeoutSeconds;
+	private final int defaultMaxConcurrency;
+
+	/**
+	 * 재시도 대상 오류 범위
+	 */
+	public enum RetryScope {
+		/** 재시도하지 않음 (idempotent하지 않은 호출) */
+		NONE,
+		/** 연결 실패만 (요청이 서버에 닿지 않은 경우) */
+		CONNECT,
+		/** 연결 오류, 응답 타임아웃, 5xx */
+		ALL
+	}
+}
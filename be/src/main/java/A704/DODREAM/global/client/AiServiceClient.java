@@ -0,0 +1,230 @@
+package A704.DODREAM.global.client;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import A704.DODREAM.global.exception.CustomException;
+import A704.DODREAM.global.exception.constant.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+/**
+ * FastAPI(AI 서버) 클라이언트
+ * <p>
+ * 호출 종류({@link AiOperation})마다 다음을 따로 둔다.
+ * - 커넥션 풀과 응답 타임아웃: 오래 걸리는 파싱이 채점용 커넥션을 차지하지 않음
+ * - bulkhead(동시 호출 수 제한): 초과하면 기다리지 않고 바로 AI_SERVICE_BUSY (요청 스레드가 쌓이지 않음)
+ * - 서킷 브레이커: 연속 실패 시 일정 시간 바로 AI_SERVICE_UNAVAILABLE
+ * - 재시도: idempotent 호출만, 지터를 준 지수 백오프. 오래 걸리는 호출은 연결 실패만, 짧은 호출은 타임아웃/5xx도
+ * - 지연 시간 히스토그램: ai.client.requests{operation, outcome}
+ * <p>
+ * {@link #post}는 Mono를 반환하고, 기존 동기 코드에서는 {@link #postAndWait}를 사용한다.
+ * 동기 호출이 최대 대기 시간을 넘기면 AI_SERVICE_UNAVAILABLE을 던진다.
+ */
+@Slf4j
+@Component
+public class AiServiceClient {
+
+	private static final String PREFIX = "fastapi.client.";
+
+	private final Map<AiOperation, Endpoint> endpoints = new EnumMap<>(AiOperation.class);
+	private final MeterRegistry meterRegistry;
+
+	public AiServiceClient(
+		WebClient.Builder webClientBuilder,
+		MeterRegistry meterRegistry,
+		Environment environment,
+		@Value("${fastapi.url}") String fastApiUrl,
+		@Value("${fastapi.client.connect-timeout-ms:3000}") int connectTimeoutMs,
+		@Value("${fastapi.client.retry-backoff-ms:500}") long retryBackoffMs,
+		@Value("${fastapi.client.circuit-breaker.failure-threshold:5}") int failureThreshold,
+		@Value("${fastapi.client.circuit-breaker.open-seconds:30}") long openSeconds) {
+		this.meterRegistry = meterRegistry;
+
+		for (AiOperation operation : AiOperation.values()) {
+			String prefix = PREFIX + operation.getKey() + ".";
+			Duration timeout = Duration.ofSeconds(environment.getProperty(prefix + "timeout-seconds", Long.class,
+				operation.getDefaultTimeoutSeconds()));
+			int maxConcurrency = Math.max(1, environment.getProperty(prefix + "max-concurrency", Integer.class,
+				operation.getDefaultMaxConcurrency()));
+			AiOperation.RetryScope retryScope = operation.getRetryScope();
+			int maxRetries = retryScope != AiOperation.RetryScope.NONE
+				? Math.max(0, environment.getProperty(prefix + "max-retries", Integer.class, 2))
+				: 0;
+
+			ConnectionProvider connectionProvider = ConnectionProvider.builder("fastapi-" + operation.getKey())
+				.maxConnections(maxConcurrency)
+				.pendingAcquireTimeout(Duration.ofMillis(connectTimeoutMs))
+				.maxIdleTime(Duration.ofSeconds(30))
+				.build();
+
+			HttpClient httpClient = HttpClient.create(connectionProvider)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+				.responseTimeout(timeout);
+
+			WebClient webClient = webClientBuilder.clone()
+				.baseUrl(fastApiUrl)
+				.clientConnector(new ReactorClientHttpConnector(httpClient))
+				.build();
+
+			Retry retry = Retry.backoff(maxRetries, Duration.ofMillis(retryBackoffMs))
+				.jitter(0.5)
+				.filter(e -> isRetryable(retryScope, e))
+				.doBeforeRetry(signal -> log.warn("FastAPI 재시도 {}/{}: operation={}, error={}",
+					signal.totalRetries() + 1, maxRetries, operation.getKey(), signal.failure().getMessage()))
+				.onRetryExhaustedThrow((spec, signal) -> signal.failure());
+
+			AiCircuitBreaker circuitBreaker = new AiCircuitBreaker(failureThreshold, openSeconds * 1000);
+			meterRegistry.gauge("ai.client.circuit.open", Tags.of("operation", operation.getKey()), circuitBreaker,
+				breaker -> breaker.getState() == AiCircuitBreaker.State.CLOSED ? 0 : 1);
+
+			// 연결 실패만 재시도하면 응답 타임아웃은 마지막 한 번만 기다린다
+			long fullAttempts = retryScope == AiOperation.RetryScope.ALL ? maxRetries + 1L : 1L;
+			Duration maxWait = timeout.multipliedBy(fullAttempts)
+				.plusMillis((retryBackoffMs * 4 + connectTimeoutMs) * maxRetries + connectTimeoutMs);
+
+			endpoints.put(operation, new Endpoint(operation, webClient, connectionProvider,
+				new Semaphore(maxConcurrency), circuitBreaker, retry, maxWait));
+
+			log.info("FastAPI 클라이언트 설정: operation={}, timeout={}s, maxConcurrency={}, maxRetries={}, "
+					+ "retryScope={}, maxWait={}s", operation.getKey(), timeout.toSeconds(), maxConcurrency, maxRetries,
+				retryScope, maxWait.toSeconds());
+		}
+	}
+
+	/**
+	 * FastAPI POST 호출
+	 *
+	 * @param authorizationHeader 전달할 Authorization 헤더 (없으면 null)
+	 */
+	public <T> Mono<T> post(AiOperation operation, Object body, String authorizationHeader,
+		ParameterizedTypeReference<T> responseType) {
+		Endpoint endpoint = endpoints.get(operation);
+
+		return Mono.defer(() -> {
+			if (!endpoint.circuitBreaker().tryAcquire()) {
+				record(operation, "circuit_open", 0);
+				return Mono.error(new CustomException(ErrorCode.AI_SERVICE_UNAVAILABLE));
+			}
+			if (!endpoint.bulkhead().tryAcquire()) {
+				endpoint.circuitBreaker().onIgnored();
+				record(operation, "rejected", 0);
+				log.warn("FastAPI 동시 호출 수 초과: operation={}", operation.getKey());
+				return Mono.error(new CustomException(ErrorCode.AI_SERVICE_BUSY));
+			}
+
+			long start = System.nanoTime();
+			return request(endpoint, body, authorizationHeader, responseType)
+				.retryWhen(endpoint.retry())
+				.doOnSuccess(result -> {
+					endpoint.circuitBreaker().onSuccess();
+					record(operation, "success", start);
+				})
+				.doOnError(e -> {
+					if (e instanceof AiServiceException aiError && aiError.isClientError()) {
+						endpoint.circuitBreaker().onIgnored();
+					} else {
+						endpoint.circuitBreaker().onFailure();
+					}
+					record(operation, "error", start);
+				})
+				.doFinally(signal -> {
+					if (signal == SignalType.CANCEL) {
+						endpoint.circuitBreaker().onIgnored();
+					}
+					endpoint.bulkhead().release();
+				});
+		});
+	}
+
+	/**
+	 * 동기 호출 (기존 서블릿 코드용)
+	 * 재시도를 포함한 최대 대기 시간이 지나면 호출을 취소하고 AI_SERVICE_UNAVAILABLE을 던진다.
+	 */
+	public <T> T postAndWait(AiOperation operation, Object body, String authorizationHeader,
+		ParameterizedTypeReference<T> responseType) {
+		Duration maxWait = endpoints.get(operation).maxWait();
+		return post(operation, body, authorizationHeader, responseType)
+			.timeout(maxWait, Mono.defer(() -> {
+				log.warn("FastAPI 최대 대기 시간 초과: operation={}, maxWait={}s", operation.getKey(),
+					maxWait.toSeconds());
+				return Mono.error(new CustomException(ErrorCode.AI_SERVICE_UNAVAILABLE));
+			}))
+			.block();
+	}
+
+	public Map<String, Object> postAndWait(AiOperation operation, Object body, String authorizationHeader) {
+		return postAndWait(operation, body, authorizationHeader, new ParameterizedTypeReference<Map<String, Object>>() {
+		});
+	}
+
+	private <T> Mono<T> request(Endpoint endpoint, Object body, String authorizationHeader,
+		ParameterizedTypeReference<T> responseType) {
+		AiOperation operation = endpoint.operation();
+		return endpoint.webClient().post()
+			.uri(operation.getPath())
+			.headers(headers -> {
+				if (authorizationHeader != null) {
+					headers.set("Authorization", authorizationHeader);
+				}
+			})
+			.bodyValue(body)
+			.retrieve()
+			.onStatus(HttpStatusCode::isError, clientResponse -> clientResponse.bodyToMono(String.class)
+				.defaultIfEmpty("")
+				.map(errorBody -> new AiServiceException(operation, clientResponse.statusCode().value(),
+					"FastAPI 에러: " + errorBody)))
+			.bodyToMono(responseType);
+	}
+
+	private static boolean isRetryable(AiOperation.RetryScope retryScope, Throwable e) {
+		if (retryScope == AiOperation.RetryScope.CONNECT) {
+			// 연결 실패/연결 타임아웃 (요청이 서버에 닿지 않아 LLM 작업이 시작되지 않음)
+			return e instanceof WebClientRequestException && e.getCause() instanceof ConnectException;
+		}
+		if (e instanceof AiServiceException aiError) {
+			return !aiError.isClientError();
+		}
+		// 연결 실패, 응답 타임아웃, 연결 끊김
+		return e instanceof WebClientRequestException;
+	}
+
+	private void record(AiOperation operation, String outcome, long startNanos) {
+		Timer.builder("ai.client.requests")
+			.description("FastAPI 호출 지연 시간")
+			.tags(Tags.of("operation", operation.getKey(), "outcome", outcome))
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(Duration.ofNanos(startNanos > 0 ? System.nanoTime() - startNanos : 0));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		endpoints.values().forEach(endpoint -> endpoint.connectionProvider().dispose());
+	}
+
+	private record Endpoint(AiOperation operation, WebClient webClient, ConnectionProvider connectionProvider,
+							Semaphore bulkhead, AiCircuitBreaker circuitBreaker, Retry retry, Duration maxWait) {
+	}
+}
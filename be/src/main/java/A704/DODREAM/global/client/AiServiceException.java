@@ -0,0 +1,26 @@
+package A704.DODREAM.global.client;
+
+import lombok.Getter;
+
+/**
+ * FastAPI가 오류 응답(4xx/5xx)을 반환한 경우
+ */
+@Getter
+public class AiServiceException extends RuntimeException {
+
+	private final AiOperation operation;
+	private final int statusCode;
+
+	public AiServiceException(AiOperation operation, int statusCode, String message) {
+		super(message);
+		this.operation = operation;
+		this.statusCode = statusCode;
+	}
+
+	/**
+	 * 요청 자체가 잘못된 경우 (재시도/서킷 브레이커 집계 대상 아님)
+	 */
+	public boolean isClientError() {
+		return statusCode >= 400 && statusCode < 500;
+	}
+}
@@ -41,6 +41,9 @@ public enum ErrorCode {
     FILE_UPLOAD_FAILED("FILE_500", "파일 업로드에 실패했습니다."),
     INVALID_FILE_EXTENSION("FILE_400", "잘못된 형식의 파일입니다."),
     FILE_PARSING_FAILED("FILE_400", "파싱된 JSON이 없습니다."),
+    PARSE_JOB_NOT_FOUND("FILE_404", "PDF 파싱 작업을 찾을 수 없습니다."),
+    PARSE_JOB_QUEUE_FULL("FILE_503", "PDF 파싱 작업이 많습니다. 잠시 후 다시 시도해주세요."),
+    FILE_TOO_LARGE("FILE_413", "업로드할 수 있는 파일 크기를 넘었습니다."),
 
     //자료 관련 (MATERIAL)
     MATERIAL_NOT_FOUND("MATERIAL_404", "자료를 찾을 수 없습니다."),
@@ -49,6 +52,10 @@ public enum ErrorCode {
     CONTENT_NOT_FOUND("BOOKMARK_404", "콘텐츠를 찾을 수 없습니다."),
     INVALID_JSON_STRUCTURE("BOOKMARK_400", "유효하지 않은 JSON 구조입니다."),
 
+    // AI 서버 관련 (AI)
+    AI_SERVICE_BUSY("AI_503", "AI 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    AI_SERVICE_UNAVAILABLE("AI_503", "AI 서버를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
     // 일반 입력/서버 오류 (COMMON)
     INVALID_INPUT("COMMON_400", "잘못된 입력입니다."),
     DUPLICATED_VALUE("COMMON_409", "중복되는 입력값입니다."),
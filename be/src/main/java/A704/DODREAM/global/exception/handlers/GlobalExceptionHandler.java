@@ -76,6 +76,7 @@ public class GlobalExceptionHandler {
         if (code.contains("409")) return HttpStatus.CONFLICT;
         if (code.contains("410")) return HttpStatus.GONE;
         if (code.contains("500")) return HttpStatus.INTERNAL_SERVER_ERROR;
+        if (code.contains("503")) return HttpStatus.SERVICE_UNAVAILABLE;
         return HttpStatus.BAD_REQUEST;
     }
 
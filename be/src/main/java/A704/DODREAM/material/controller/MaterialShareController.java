@@ -7,10 +7,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import A704.DODREAM.material.dto.MaterialBulkShareRequest;
+import A704.DODREAM.material.dto.MaterialBulkShareResponse;
 import A704.DODREAM.material.dto.MaterialShareListResponse;
 import A704.DODREAM.material.dto.MaterialShareRequest;
 import A704.DODREAM.material.dto.MaterialShareResponse;
+import A704.DODREAM.material.service.MaterialBulkShareService;
 import A704.DODREAM.material.service.MaterialShareService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,6 +32,7 @@ import java.util.Map;
 public class MaterialShareController {
 
 	private final MaterialShareService materialShareService;
+	private final MaterialBulkShareService materialBulkShareService;
 
     @Operation(
             summary = "학습 자료 공유 + 푸시 알림",
@@ -43,33 +48,51 @@ public class MaterialShareController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "여러 자료를 여러 반에 일괄 공유",
+            description = "선택한 반의 모든 학생에게 여러 학습 자료를 한 번에 공유합니다.\n\n" +
+                    "이미 공유된 자료는 건너뛰고, 새로 공유받은 학생에게는 알림이 한 번 전송됩니다."
+    )
+    @PostMapping("/share/bulk")
+    public ResponseEntity<MaterialBulkShareResponse> shareMaterialsBulk(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestBody MaterialBulkShareRequest request){
+        Long teacherId = userPrincipal.userId();
+        MaterialBulkShareResponse response = materialBulkShareService.share(request, teacherId);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "공유받은 자료 목록 조회 (학생/앱)",
-            description = "특정 학생이 공유받은 모든 학습 자료를 최신순으로 조회합니다."
+            description = "특정 학생이 공유받은 모든 학습 자료를 최신순으로 조회합니다. size를 지정하면 응답의 nextCursor로 다음 페이지를 조회합니다."
     )
     @GetMapping("/shared")
     public ResponseEntity<MaterialShareListResponse> getSharedMaterialByStudent(
-            @AuthenticationPrincipal UserPrincipal userPrincipal
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ){
         Long studentId = userPrincipal.userId();
-        MaterialShareListResponse response = materialShareService.getSharedMaterialByStudent(studentId);
+        MaterialShareListResponse response = materialShareService.getSharedMaterialByStudent(studentId, cursor, size);
         return ResponseEntity.ok(response);
     }
 
     @Operation(
             summary = "내가 특정 학생에게 공유한 자료 목록 조회 (선생님/웹)",
-            description = "특정 학생이 특정 선생님으로부터 공유받은 학습 자료를 최신순으로 조회합니다."
+            description = "특정 학생이 특정 선생님으로부터 공유받은 학습 자료를 최신순으로 조회합니다. size를 지정하면 응답의 nextCursor로 다음 페이지를 조회합니다."
     )
     @GetMapping("/shared/student/{studentId}")
     public ResponseEntity<MaterialShareListResponse> getSharedMaterialsByStudent(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @PathVariable Long studentId
+            @PathVariable Long studentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     )
     {
         Long teacherId = userPrincipal.userId();
 
         MaterialShareListResponse response = materialShareService
-                .getSharedMaterialByStudentAndTeacher(studentId, teacherId);
+                .getSharedMaterialByStudentAndTeacher(studentId, teacherId, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -77,12 +100,14 @@ public class MaterialShareController {
     @GetMapping("/shared/class/{classId}")
     public ResponseEntity<MaterialShareListResponse> getSharedMaterialsByClass(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @PathVariable Long classId
+            @PathVariable Long classId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ){
         Long teacherId = userPrincipal.userId();
 
         MaterialShareListResponse response = materialShareService
-                .getSharedMaterialByClass(classId, teacherId);
+                .getSharedMaterialByClass(classId, teacherId, cursor, size);
 		return ResponseEntity.ok(response);
 	}
 
@@ -0,0 +1,116 @@
+package A704.DODREAM.material.document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 자료 JSON의 챕터 하나
+ * <p>
+ * 두 가지 JSON 구조를 모두 표현한다.
+ * 1. 이전 구조 (data): index, index_title, titles[s_titles[ss_titles]], concept_checks
+ * 2. 새로운 구조 (chapters): id, title, type, content, qa
+ * <p>
+ * 헤더만 읽은 경우 content/contents/qa 본문은 비어 있다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class Chapter {
+
+	public static final String TYPE_CONTENT = "content";
+	public static final String TYPE_QUIZ = "quiz";
+
+	private String id;
+	private String title;
+	private String type;
+
+	/** 이전 구조 여부 (data 배열) */
+	private boolean legacy;
+
+	/** 새로운 구조의 본문 */
+	private String content;
+
+	/** 새로운 구조의 퀴즈 문항 */
+	@Builder.Default
+	private List<QaItem> qa = new ArrayList<>();
+
+	/** 이전 구조의 titles 트리 */
+	@Builder.Default
+	private List<Section> sections = new ArrayList<>();
+
+	/** 이전 구조의 concept_checks */
+	@Builder.Default
+	private List<ConceptCheck> conceptChecks = new ArrayList<>();
+
+	/** 이전 구조의 title + s_title + ss_title 노드 수 (헤더 모드에서도 채워짐) */
+	private int sectionNodeCount;
+
+	/**
+	 * 퀴즈 챕터 여부
+	 * 이전 구조는 concept_checks가 있으면 quiz 타입으로 간주한다.
+	 */
+	public boolean isQuiz() {
+		return TYPE_QUIZ.equals(type);
+	}
+
+	/**
+	 * 진행률 계산용 섹션 수 (퀴즈는 0)
+	 * 이전 구조: title + s_title + ss_title 개수 (최소 1)
+	 * 새로운 구조: 챕터 하나가 1섹션
+	 */
+	public int getSectionCount() {
+		if (isQuiz()) {
+			return 0;
+		}
+		return legacy ? Math.max(1, sectionNodeCount) : 1;
+	}
+
+	public ChapterHeader toHeader(int chapterNumber) {
+		return ChapterHeader.builder()
+			.chapterNumber(chapterNumber)
+			.id(id)
+			.title(title)
+			.type(type)
+			.sectionCount(getSectionCount())
+			.build();
+	}
+
+	/**
+	 * 이전 구조의 title / s_title / ss_title 노드
+	 */
+	@Getter
+	@Builder
+	@AllArgsConstructor
+	public static class Section {
+		private String id;
+		private String title;
+		private String contents;
+		@Builder.Default
+		private List<Section> children = new ArrayList<>();
+
+		public int countNodes() {
+			return 1 + children.stream().mapToInt(Section::countNodes).sum();
+		}
+	}
+
+	@Getter
+	@Builder
+	@AllArgsConstructor
+	public static class QaItem {
+		private String question;
+		private String answer;
+	}
+
+	@Getter
+	@Builder
+	@AllArgsConstructor
+	public static class ConceptCheck {
+		private String title;
+		@Builder.Default
+		private List<QaItem> questions = new ArrayList<>();
+	}
+}
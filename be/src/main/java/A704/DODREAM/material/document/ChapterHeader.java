@@ -0,0 +1,28 @@
+package A704.DODREAM.material.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 본문 없이 챕터 메타데이터만 담은 요약 (진행률 계산용)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ChapterHeader {
+
+	/** 챕터 번호 (1부터 시작) */
+	private int chapterNumber;
+
+	private String id;
+	private String title;
+	private String type;
+
+	/** 진행률 계산용 섹션 수 (퀴즈는 0) */
+	private int sectionCount;
+
+	public boolean isQuiz() {
+		return Chapter.TYPE_QUIZ.equals(type);
+	}
+}
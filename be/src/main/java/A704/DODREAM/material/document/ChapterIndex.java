@@ -0,0 +1,105 @@
+package A704.DODREAM.material.document;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 챕터 헤더 + 누적 섹션 오프셋 (진행률 계산용)
+ * <p>
+ * 콘텐츠 페이지(퀴즈 제외, 1부터 시작)가 속한 챕터를 누적 오프셋 이진 탐색으로 찾는다.
+ * 섹션이 없는 챕터(퀴즈 등)는 탐색 대상에서 제외한다.
+ */
+public class ChapterIndex {
+
+	private final List<ChapterHeader> chapters;
+	/** 챕터별 앞선 누적 섹션 수 (chapters와 같은 순서) */
+	private final int[] offsets;
+	/** 섹션이 있는 챕터의 오프셋 (오름차순, 중복 없음) */
+	private final int[] searchOffsets;
+	/** searchOffsets[i]에 해당하는 chapters 위치 */
+	private final int[] searchPositions;
+	private final int totalSections;
+
+	private ChapterIndex(List<ChapterHeader> chapters, int[] offsets) {
+		this.chapters = List.copyOf(chapters);
+		this.offsets = offsets;
+
+		int[] searchOffsets = new int[chapters.size()];
+		int[] searchPositions = new int[chapters.size()];
+		int count = 0;
+		int total = 0;
+		for (int i = 0; i < chapters.size(); i++) {
+			int sectionCount = sectionCount(chapters.get(i));
+			if (sectionCount > 0) {
+				searchOffsets[count] = offsets[i];
+				searchPositions[count] = i;
+				count++;
+				total = Math.max(total, offsets[i] + sectionCount);
+			}
+		}
+		this.searchOffsets = Arrays.copyOf(searchOffsets, count);
+		this.searchPositions = Arrays.copyOf(searchPositions, count);
+		this.totalSections = total;
+	}
+
+	/**
+	 * 헤더 목록으로 누적 오프셋 계산
+	 */
+	public static ChapterIndex of(List<ChapterHeader> chapters) {
+		int[] offsets = new int[chapters.size()];
+		int cumulative = 0;
+		for (int i = 0; i < chapters.size(); i++) {
+			offsets[i] = cumulative;
+			cumulative += sectionCount(chapters.get(i));
+		}
+		return new ChapterIndex(chapters, offsets);
+	}
+
+	/**
+	 * 저장된 오프셋으로 생성 (offsets는 chapters와 같은 순서)
+	 */
+	public static ChapterIndex of(List<ChapterHeader> chapters, int[] offsets) {
+		if (chapters.size() != offsets.length) {
+			throw new IllegalArgumentException("챕터 수와 오프셋 수가 다릅니다.");
+		}
+		return new ChapterIndex(chapters, offsets.clone());
+	}
+
+	public List<ChapterHeader> getChapters() {
+		return chapters;
+	}
+
+	public int getTotalSections() {
+		return totalSections;
+	}
+
+	public boolean isEmpty() {
+		return searchOffsets.length == 0;
+	}
+
+	/**
+	 * position번째 챕터 앞까지의 누적 섹션 수
+	 */
+	public int offsetOf(int position) {
+		return offsets[position];
+	}
+
+	/**
+	 * 콘텐츠 페이지가 속한 챕터의 위치 (chapters 기준)
+	 * 전체 섹션 수를 넘으면 마지막 콘텐츠 챕터, 콘텐츠 챕터가 없으면 -1
+	 */
+	public int locate(int contentPage) {
+		if (isEmpty()) {
+			return -1;
+		}
+
+		// offset < contentPage 를 만족하는 마지막 챕터
+		int found = Arrays.binarySearch(searchOffsets, Math.max(0, contentPage - 1));
+		int index = found >= 0 ? found : -found - 2;
+		return searchPositions[Math.max(0, index)];
+	}
+
+	private static int sectionCount(ChapterHeader chapter) {
+		return chapter.isQuiz() ? 0 : Math.max(0, chapter.getSectionCount());
+	}
+}
@@ -0,0 +1,39 @@
+package A704.DODREAM.material.document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 파싱/발행된 자료 JSON의 타입 모델
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class MaterialDocument {
+
+	/** 목차 (이전 구조의 indexes) */
+	@Builder.Default
+	private List<String> indexes = new ArrayList<>();
+
+	@Builder.Default
+	private List<Chapter> chapters = new ArrayList<>();
+
+	public Optional<Chapter> findChapter(String chapterId) {
+		return chapters.stream()
+			.filter(chapter -> chapterId.equals(chapter.getId()))
+			.findFirst();
+	}
+
+	public List<ChapterHeader> getHeaders() {
+		List<ChapterHeader> headers = new ArrayList<>();
+		for (int i = 0; i < chapters.size(); i++) {
+			headers.add(chapters.get(i).toHeader(i + 1));
+		}
+		return headers;
+	}
+}
@@ -0,0 +1,381 @@
+package A704.DODREAM.material.document;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자료 JSON 스트리밍 리더
+ * <p>
+ * Jackson 스트리밍 파서로 JSON을 읽어 {@link MaterialDocument}로 변환한다.
+ * 헤더만 읽을 때는 content/contents/qa 본문 문자열을 만들지 않고 건너뛴다.
+ * S3 조회는 하지 않는다. 자료 JSON은 ParsedDocumentCache를 거쳐 읽는다.
+ * <p>
+ * 지원하는 구조
+ * 1. 이전 구조: { indexes, data: [ { index, index_title, titles, concept_checks } ] }
+ * 2. 새로운 구조: { chapters: [ { id, title, type, content, qa } ] }
+ * 3. 위 구조가 parsedData 아래에 감싸진 경우
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MaterialDocumentReader {
+
+	/** 챕터 본문에 해당하는 필드 (헤더 모드에서는 건너뜀) */
+	private static final Set<String> BODY_FIELDS = Set.of("content", "qa", "titles", "concept_checks");
+
+	/** 이전 구조의 하위 섹션 배열 필드 */
+	private static final Set<String> CHILD_SECTION_FIELDS = Set.of("s_titles", "ss_titles");
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * JSON 전체를 타입 모델로 읽기 (S3 조회는 ParsedDocumentCache를 거친다)
+	 */
+	public MaterialDocument read(InputStream in) throws IOException {
+		ReadContext ctx = new ReadContext(ReadMode.FULL);
+		parse(in, ctx);
+		return ctx.toDocument();
+	}
+
+	/**
+	 * 본문 없이 챕터 헤더만 읽기 (발행 시 챕터 인덱스 생성용)
+	 */
+	public List<ChapterHeader> readHeaders(InputStream in) throws IOException {
+		ReadContext ctx = new ReadContext(ReadMode.HEADERS);
+		parse(in, ctx);
+		return ctx.toDocument().getHeaders();
+	}
+
+	private void parse(InputStream in, ReadContext ctx) throws IOException {
+		// 스트림은 호출한 쪽에서 닫는다
+		try (JsonParser parser = objectMapper.getFactory().createParser(in)
+			.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IOException("JSON 최상위가 객체가 아닙니다.");
+			}
+			readObject(parser, ctx);
+		}
+	}
+
+	/**
+	 * 최상위(또는 parsedData) 객체 읽기
+	 */
+	private void readObject(JsonParser parser, ReadContext ctx) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken token = parser.nextToken();
+
+			switch (field) {
+				case "chapters" -> readChapters(parser, false, ctx);
+				case "data" -> readChapters(parser, true, ctx);
+				case "parsedData" -> {
+					if (token == JsonToken.START_OBJECT) {
+						readObject(parser, ctx);
+					} else {
+						parser.skipChildren();
+					}
+				}
+				case "indexes" -> ctx.indexes.addAll(readStringArray(parser));
+				default -> parser.skipChildren();
+			}
+		}
+	}
+
+	private void readChapters(JsonParser parser, boolean legacy, ReadContext ctx) throws IOException {
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return;
+		}
+
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			if (parser.currentToken() != JsonToken.START_OBJECT) {
+				parser.skipChildren();
+				continue;
+			}
+			ctx.chapters.add(readChapter(parser, legacy, ctx));
+		}
+	}
+
+	/**
+	 * 챕터 객체 하나 읽기
+	 * 본문 필드는 트리로 읽은 뒤 타입 모델로 변환한다 (헤더 모드에서는 개수만 센다).
+	 */
+	private Chapter readChapter(JsonParser parser, boolean legacy, ReadContext ctx) throws IOException {
+		Chapter.ChapterBuilder builder = Chapter.builder().legacy(legacy);
+		Map<String, JsonNode> body = new LinkedHashMap<>();
+
+		String id = null;
+		String type = null;
+		boolean hasConceptChecks = false;
+		int sectionNodeCount = 0;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+
+			if (BODY_FIELDS.contains(field)) {
+				if (ctx.mode == ReadMode.FULL) {
+					body.put(field, parser.readValueAsTree());
+				} else if ("titles".equals(field)) {
+					sectionNodeCount = countSectionNodes(parser);
+				} else if ("concept_checks".equals(field)) {
+					hasConceptChecks = countArrayElements(parser) > 0;
+				} else {
+					parser.skipChildren();
+				}
+				continue;
+			}
+
+			switch (field) {
+				case "id", "index" -> id = readScalar(parser);
+				case "title", "index_title" -> builder.title(readScalar(parser));
+				case "type" -> type = readScalar(parser);
+				default -> parser.skipChildren();
+			}
+		}
+
+		JsonNode titlesNode = body.get("titles");
+		if (titlesNode != null) {
+			List<Chapter.Section> sections = toSections(titlesNode);
+			builder.sections(sections);
+			sectionNodeCount = sections.stream().mapToInt(Chapter.Section::countNodes).sum();
+		}
+
+		JsonNode conceptChecksNode = body.get("concept_checks");
+		if (conceptChecksNode != null) {
+			builder.conceptChecks(toConceptChecks(conceptChecksNode));
+			hasConceptChecks = conceptChecksNode.isArray() && !conceptChecksNode.isEmpty();
+		}
+
+		JsonNode contentNode = body.get("content");
+		if (contentNode != null && !contentNode.isNull()) {
+			builder.content(contentNode.asText());
+		}
+
+		JsonNode qaNode = body.get("qa");
+		if (qaNode != null) {
+			builder.qa(toQaItems(qaNode));
+		}
+
+		if (legacy) {
+			type = hasConceptChecks ? Chapter.TYPE_QUIZ : Chapter.TYPE_CONTENT;
+		} else if (type == null) {
+			type = Chapter.TYPE_CONTENT;
+		}
+
+		return builder
+			.id(id)
+			.type(type)
+			.sectionNodeCount(sectionNodeCount)
+			.build();
+	}
+
+	/**
+	 * 이전 구조의 titles 트리를 문자열 생성 없이 세기 (title + s_title + ss_title)
+	 */
+	private int countSectionNodes(JsonParser parser) throws IOException {
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return 0;
+		}
+
+		int count = 0;
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			if (parser.currentToken() != JsonToken.START_OBJECT) {
+				parser.skipChildren();
+				continue;
+			}
+
+			count++;
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				parser.nextToken();
+				if (CHILD_SECTION_FIELDS.contains(field)) {
+					count += countSectionNodes(parser);
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+		return count;
+	}
+
+	private int countArrayElements(JsonParser parser) throws IOException {
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return 0;
+		}
+
+		int count = 0;
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			parser.skipChildren();
+			count++;
+		}
+		return count;
+	}
+
+	private List<String> readStringArray(JsonParser parser) throws IOException {
+		List<String> values = new ArrayList<>();
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return values;
+		}
+
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			String value = readScalar(parser);
+			if (value != null) {
+				values.add(value);
+			}
+		}
+		return values;
+	}
+
+	private String readScalar(JsonParser parser) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		if (token.isScalarValue()) {
+			return parser.getValueAsString();
+		}
+		parser.skipChildren();
+		return null;
+	}
+
+	private List<Chapter.Section> toSections(JsonNode node) {
+		List<Chapter.Section> sections = new ArrayList<>();
+		if (!node.isArray()) {
+			return sections;
+		}
+
+		for (JsonNode item : node) {
+			if (!item.isObject()) {
+				continue;
+			}
+
+			List<Chapter.Section> children = new ArrayList<>();
+			for (String childField : CHILD_SECTION_FIELDS) {
+				if (item.has(childField)) {
+					children.addAll(toSections(item.get(childField)));
+				}
+			}
+
+			sections.add(Chapter.Section.builder()
+				.id(textOrNull(item, "id"))
+				.title(firstText(item, "title", "s_title", "ss_title"))
+				.contents(textOrNull(item, "contents"))
+				.children(children)
+				.build());
+		}
+		return sections;
+	}
+
+	private List<Chapter.ConceptCheck> toConceptChecks(JsonNode node) {
+		List<Chapter.ConceptCheck> conceptChecks = new ArrayList<>();
+		if (!node.isArray()) {
+			return conceptChecks;
+		}
+
+		for (JsonNode item : node) {
+			JsonNode conceptCheck = unwrapJsonString(item);
+			if (!conceptCheck.isObject()) {
+				continue;
+			}
+
+			conceptChecks.add(Chapter.ConceptCheck.builder()
+				.title(textOrNull(conceptCheck, "title"))
+				.questions(toQaItems(conceptCheck.path("questions")))
+				.build());
+		}
+		return conceptChecks;
+	}
+
+	private List<Chapter.QaItem> toQaItems(JsonNode node) {
+		List<Chapter.QaItem> items = new ArrayList<>();
+
+		// questions가 List 또는 String으로 올 수 있음
+		JsonNode array = unwrapJsonString(node);
+		if (!array.isArray()) {
+			return items;
+		}
+
+		for (JsonNode item : array) {
+			if (!item.isObject()) {
+				continue;
+			}
+			items.add(Chapter.QaItem.builder()
+				.question(item.path("question").asText(""))
+				.answer(item.path("answer").asText(""))
+				.build());
+		}
+		return items;
+	}
+
+	/**
+	 * 문자열로 인코딩된 JSON 값을 트리로 변환
+	 */
+	private JsonNode unwrapJsonString(JsonNode node) {
+		if (!node.isTextual()) {
+			return node;
+		}
+		try {
+			return objectMapper.readTree(node.asText());
+		} catch (JsonProcessingException e) {
+			log.warn("문자열 JSON 파싱 실패: {}", e.getMessage());
+			return MissingNode.getInstance();
+		}
+	}
+
+	private String textOrNull(JsonNode node, String field) {
+		JsonNode value = node.get(field);
+		return value == null || value.isNull() ? null : value.asText();
+	}
+
+	private String firstText(JsonNode node, String... fields) {
+		for (String field : fields) {
+			String value = textOrNull(node, field);
+			if (value != null) {
+				return value;
+			}
+		}
+		return null;
+	}
+
+	private enum ReadMode {
+		FULL, HEADERS
+	}
+
+	private static class ReadContext {
+		private final ReadMode mode;
+		private final List<String> indexes = new ArrayList<>();
+		private final List<Chapter> chapters = new ArrayList<>();
+
+		private ReadContext(ReadMode mode) {
+			this.mode = mode;
+		}
+
+		private MaterialDocument toDocument() {
+			return MaterialDocument.builder()
+				.indexes(indexes)
+				.chapters(chapters)
+				.build();
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package A704.DODREAM.material.dto;
+
+import java.util.List;
+
+import A704.DODREAM.material.enums.ShareType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 여러 자료를 여러 반 학생 전체에게 한 번에 공유
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaterialBulkShareRequest {
+
+	private List<Long> materialIds;
+
+	private List<Long> classroomIds;
+
+	@Builder.Default
+	private ShareType type = ShareType.CLASS;
+}
@@ -0,0 +1,41 @@
+package A704.DODREAM.material.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaterialBulkShareResponse {
+	private Long teacherId;
+	private Integer materialCount;
+	private Integer classroomCount;
+	private LocalDateTime sharedAt;
+
+	private Integer totalShared;        // 새로 공유된 (자료, 학생) 수
+	private Integer totalAlreadyShared; // 이미 공유되어 있던 (자료, 학생) 수
+	private List<StudentResult> results;
+
+	private String message;
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	public static class StudentResult {
+		private Long studentId;
+		private String studentName;
+		private Long classroomId;
+		private int sharedCount;
+		private int alreadySharedCount;
+	}
+}
@@ -22,6 +22,10 @@ public class MaterialShareListResponse {
 	private int totalCount;
 	private List<SharedMaterialInfo> materials;
 
+	// 페이지 조회(size 지정) 시에만 사용: 다음 페이지 커서, 없으면 null
+	private String nextCursor;
+	private boolean hasNext;
+
 	@Getter
 	@Builder
 	@NoArgsConstructor
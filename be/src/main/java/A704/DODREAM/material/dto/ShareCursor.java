@@ -0,0 +1,40 @@
+package A704.DODREAM.material.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import A704.DODREAM.global.exception.CustomException;
+import A704.DODREAM.global.exception.constant.ErrorCode;
+
+/**
+ * 공유 목록 keyset 페이지 커서 (sharedAt DESC, id DESC 기준 마지막 항목)
+ * 클라이언트에는 "sharedAt|id"를 URL-safe Base64로 인코딩한 문자열로 전달한다.
+ */
+public record ShareCursor(LocalDateTime sharedAt, Long id) {
+
+	/**
+	 * 첫 페이지 (모든 항목보다 뒤)
+	 */
+	public static final ShareCursor FIRST = new ShareCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+	public static ShareCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return FIRST;
+		}
+
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = decoded.lastIndexOf('|');
+			return new ShareCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+				Long.parseLong(decoded.substring(separator + 1)));
+		} catch (RuntimeException e) {
+			throw new CustomException(ErrorCode.INVALID_INPUT);
+		}
+	}
+
+	public String encode() {
+		String raw = sharedAt + "|" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,56 @@
+package A704.DODREAM.material.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자료 챕터 인덱스 (발행 시 한 번 계산)
+ * 진행률 리포트가 자료 JSON을 내려받지 않고 챕터별 진행률을 계산하는 데 사용한다.
+ */
+@Entity
+@Table(name = "material_chapter_indexes",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_material_chapter", columnNames = {"material_id", "chapter_number"})
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MaterialChapterIndex {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "material_id", nullable = false)
+	private Long materialId;
+
+	@Column(name = "chapter_number", nullable = false)
+	private int chapterNumber; // 1부터 시작
+
+	@Column(name = "chapter_id")
+	private String chapterId;
+
+	@Column(length = 500)
+	private String title;
+
+	@Column(length = 20)
+	private String type; // content, quiz
+
+	@Column(name = "section_count", nullable = false)
+	private int sectionCount; // 퀴즈는 0
+
+	@Column(name = "section_offset", nullable = false)
+	private int sectionOffset; // 이 챕터 앞까지의 누적 섹션 수 (퀴즈 제외)
+}
@@ -32,7 +32,11 @@ import lombok.NoArgsConstructor;
 @Table(name = "material_shares",
 	indexes = {
 		@Index(name = "idx_student", columnList = "student_id"),
-		@Index(name = "idx_material", columnList = "material_id")
+		@Index(name = "idx_material", columnList = "material_id"),
+		// 학생별 공유 목록 keyset 페이지 (shared_at DESC, id DESC)
+		@Index(name = "idx_share_student_shared_at", columnList = "student_id, shared_at, id"),
+		// 반별 자료마다 최신 공유 (자료별 MAX(id))
+		@Index(name = "idx_share_class_teacher_material", columnList = "class_id, teacher_id, material_id")
 	},
 	uniqueConstraints = {
 		@UniqueConstraint(name = "uk_share", columnNames = {"material_id", "student_id"})
@@ -0,0 +1,22 @@
+package A704.DODREAM.material.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import A704.DODREAM.material.entity.MaterialChapterIndex;
+
+public interface MaterialChapterIndexRepository extends JpaRepository<MaterialChapterIndex, Long> {
+
+	List<MaterialChapterIndex> findByMaterialIdOrderByChapterNumberAsc(Long materialId);
+
+	List<MaterialChapterIndex> findByMaterialIdInOrderByMaterialIdAscChapterNumberAsc(Collection<Long> materialIds);
+
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM MaterialChapterIndex ci WHERE ci.materialId = :materialId")
+	int deleteByMaterialId(@Param("materialId") Long materialId);
+}
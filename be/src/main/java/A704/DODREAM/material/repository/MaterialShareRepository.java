@@ -1,9 +1,12 @@
 package A704.DODREAM.material.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -44,26 +47,76 @@ public interface MaterialShareRepository extends JpaRepository<MaterialShare, Lo
             @Param("teacherId") Long teacherId
     );
 
-    // 웹에서 공유한 자료 목록을 반별로 조회 (선생님)
+    // 학생별 공유 목록 keyset 페이지 (idx_share_student_shared_at)
     @Query("SELECT ms FROM MaterialShare ms " +
             "JOIN FETCH ms.material m " +
             "JOIN FETCH ms.teacher t " +
-            "WHERE ms.classroom.id = :classId " +
+            "WHERE ms.student.id = :studentId " +
+            "AND ms.material.deletedAt IS NULL " +
+            "AND (ms.sharedAt < :sharedAt OR (ms.sharedAt = :sharedAt AND ms.id < :id)) " +
+            "ORDER BY ms.sharedAt DESC, ms.id DESC")
+    List<MaterialShare> findPageByStudentId(
+            @Param("studentId") Long studentId,
+            @Param("sharedAt") LocalDateTime sharedAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    // 선생님이 특정 학생에게 공유한 목록 keyset 페이지
+    @Query("SELECT ms FROM MaterialShare ms " +
+            "JOIN FETCH ms.material m " +
+            "JOIN FETCH ms.teacher t " +
+            "WHERE ms.student.id = :studentId " +
             "AND ms.teacher.id = :teacherId " +
             "AND ms.material.deletedAt IS NULL " +
-            "AND ms.id IN (" +
-            "  SELECT MAX(ms2.id) FROM MaterialShare ms2 " +
-            "  WHERE ms2.classroom.id = :classId " +
-            "  AND ms2.teacher.id = :teacherId " +
-            "  AND ms2.material.deletedAt IS NULL " +  // ⭐ 여기도 추가!
-            "  GROUP BY ms2.material.id" +
-            ") " +
-            "ORDER BY ms.sharedAt DESC")
-    List<MaterialShare> findByClassIdAndTeacherId(
+            "AND (ms.sharedAt < :sharedAt OR (ms.sharedAt = :sharedAt AND ms.id < :id)) " +
+            "ORDER BY ms.sharedAt DESC, ms.id DESC")
+    List<MaterialShare> findPageByStudentIdAndTeacherId(
+            @Param("studentId") Long studentId,
+            @Param("teacherId") Long teacherId,
+            @Param("sharedAt") LocalDateTime sharedAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    // 반별로 자료마다 최신 공유 1건의 ID (keyset 페이지)
+    // 자료별 MAX(id)를 파생 테이블로 한 번만 계산해서 조인 (idx_share_class_teacher_material)
+    @Query(value = "SELECT ms.id FROM material_shares ms " +
+            "JOIN (SELECT MAX(s.id) AS id FROM material_shares s " +
+            "      WHERE s.class_id = :classId AND s.teacher_id = :teacherId " +
+            "      GROUP BY s.material_id) latest ON latest.id = ms.id " +
+            "JOIN materials m ON m.id = ms.material_id " +
+            "WHERE m.deleted_at IS NULL " +
+            "AND (ms.shared_at < :sharedAt OR (ms.shared_at = :sharedAt AND ms.id < :id)) " +
+            "ORDER BY ms.shared_at DESC, ms.id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Long> findLatestShareIdsByClassIdAndTeacherId(
+            @Param("classId") Long classId,
+            @Param("teacherId") Long teacherId,
+            @Param("sharedAt") LocalDateTime sharedAt,
+            @Param("id") Long id,
+            @Param("limit") int limit
+    );
+
+    // 반별로 자료마다 최신 공유 1건의 ID (페이지 없이 전체, 페이지 쿼리와 같은 정렬)
+    @Query(value = "SELECT ms.id FROM material_shares ms " +
+            "JOIN (SELECT MAX(s.id) AS id FROM material_shares s " +
+            "      WHERE s.class_id = :classId AND s.teacher_id = :teacherId " +
+            "      GROUP BY s.material_id) latest ON latest.id = ms.id " +
+            "JOIN materials m ON m.id = ms.material_id " +
+            "WHERE m.deleted_at IS NULL " +
+            "ORDER BY ms.shared_at DESC, ms.id DESC", nativeQuery = true)
+    List<Long> findAllLatestShareIdsByClassIdAndTeacherId(
             @Param("classId") Long classId,
             @Param("teacherId") Long teacherId
     );
 
+    @Query("SELECT ms FROM MaterialShare ms " +
+            "JOIN FETCH ms.material m " +
+            "JOIN FETCH ms.teacher t " +
+            "WHERE ms.id IN :ids")
+    List<MaterialShare> findAllWithMaterialByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT ms FROM MaterialShare ms " +
             "JOIN FETCH ms.material m " +
             "WHERE ms.student.id = :studentId " +
@@ -0,0 +1,111 @@
+package A704.DODREAM.material.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import A704.DODREAM.material.document.ChapterHeader;
+import A704.DODREAM.material.document.ChapterIndex;
+import A704.DODREAM.material.entity.MaterialChapterIndex;
+import A704.DODREAM.material.repository.MaterialChapterIndexRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자료 챕터 인덱스 관리
+ * <p>
+ * 발행 시 편집된 JSON에서 챕터 헤더(id, 타입, 섹션 수)와 누적 섹션 오프셋을 한 번 계산해 DB에 저장한다.
+ * 진행률 리포트는 이 인덱스만 조회하므로 자료 JSON 본문을 내려받지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ChapterIndexService {
+
+	private final MaterialChapterIndexRepository chapterIndexRepository;
+
+	/**
+	 * 발행된 자료의 챕터 인덱스 저장 (기존 인덱스는 교체)
+	 *
+	 * @param materialId 자료 ID
+	 * @param headers    발행된 JSON의 챕터 헤더
+	 */
+	@Transactional
+	public ChapterIndex save(Long materialId, List<ChapterHeader> headers) {
+		ChapterIndex index = ChapterIndex.of(headers);
+
+		List<MaterialChapterIndex> rows = new ArrayList<>(headers.size());
+		for (int i = 0; i < headers.size(); i++) {
+			ChapterHeader header = headers.get(i);
+			rows.add(MaterialChapterIndex.builder()
+				.materialId(materialId)
+				.chapterNumber(header.getChapterNumber())
+				.chapterId(header.getId())
+				.title(header.getTitle())
+				.type(header.getType())
+				.sectionCount(header.isQuiz() ? 0 : header.getSectionCount())
+				.sectionOffset(index.offsetOf(i))
+				.build());
+		}
+
+		chapterIndexRepository.deleteByMaterialId(materialId);
+		chapterIndexRepository.saveAll(rows);
+
+		log.info("챕터 인덱스 저장: materialId={}, chapters={}, sections={}", materialId, rows.size(),
+			index.getTotalSections());
+		return index;
+	}
+
+	/**
+	 * 저장된 챕터 인덱스 조회 (인덱스 도입 전에 발행된 자료는 empty)
+	 */
+	public Optional<ChapterIndex> find(Long materialId) {
+		List<MaterialChapterIndex> rows = chapterIndexRepository.findByMaterialIdOrderByChapterNumberAsc(materialId);
+		if (rows.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(toIndex(rows));
+	}
+
+	/**
+	 * 여러 자료의 챕터 인덱스를 쿼리 한 번으로 조회 (인덱스가 없는 자료는 결과에 없음)
+	 */
+	public Map<Long, ChapterIndex> findAll(Collection<Long> materialIds) {
+		if (materialIds.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<Long, List<MaterialChapterIndex>> rowsByMaterial = chapterIndexRepository
+			.findByMaterialIdInOrderByMaterialIdAscChapterNumberAsc(materialIds).stream()
+			.collect(Collectors.groupingBy(MaterialChapterIndex::getMaterialId));
+
+		Map<Long, ChapterIndex> indexes = new HashMap<>();
+		rowsByMaterial.forEach((materialId, rows) -> indexes.put(materialId, toIndex(rows)));
+		return indexes;
+	}
+
+	private ChapterIndex toIndex(List<MaterialChapterIndex> rows) {
+		List<ChapterHeader> headers = new ArrayList<>(rows.size());
+		int[] offsets = new int[rows.size()];
+		for (int i = 0; i < rows.size(); i++) {
+			MaterialChapterIndex row = rows.get(i);
+			headers.add(ChapterHeader.builder()
+				.chapterNumber(row.getChapterNumber())
+				.id(row.getChapterId())
+				.title(row.getTitle())
+				.type(row.getType())
+				.sectionCount(row.getSectionCount())
+				.build());
+			offsets[i] = row.getSectionOffset();
+		}
+		return ChapterIndex.of(headers, offsets);
+	}
+}
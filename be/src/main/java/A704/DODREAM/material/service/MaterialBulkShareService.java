@@ -0,0 +1,273 @@
+package A704.DODREAM.material.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import A704.DODREAM.fcm.service.NotificationOutboxService;
+import A704.DODREAM.global.exception.CustomException;
+import A704.DODREAM.global.exception.constant.ErrorCode;
+import A704.DODREAM.material.dto.MaterialBulkShareRequest;
+import A704.DODREAM.material.dto.MaterialBulkShareResponse;
+import A704.DODREAM.material.enums.ShareType;
+import A704.DODREAM.user.service.ClassroomSummaryCache;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 자료 x 여러 반 일괄 공유 (학년 단위 배포)
+ * <p>
+ * 엔티티를 만들지 않고 SQL로 처리한다.
+ * 1. 선생님 소유 자료 / 담당 반 확인
+ * 2. 아직 공유되지 않은 (자료, 학생) 쌍을 NOT EXISTS 쿼리 한 번으로 계산
+ * 3. JDBC 배치 INSERT ... ON DUPLICATE KEY UPDATE (rewriteBatchedStatements로 multi-row INSERT), 공유 시각은 요청당 하나
+ * 4. 실제로 들어간 쌍 확인: INSERT 전에 읽은 MAX(id)보다 큰 행을 다시 조회
+ * 5. 학생별 결과는 (id, 이름, 반) 컬럼만 조회해서 생성
+ * <p>
+ * 4는 REPEATABLE READ 스냅샷에 기대어 있다. 스냅샷에 보이는 행은 스냅샷 전에 커밋된 행(id가 MAX(id) 이하)과
+ * 이 트랜잭션이 넣은 행뿐이므로, id > MAX(id)인 행은 이 요청이 넣은 행이다.
+ * (multi-row INSERT의 배치 결과 건수는 SUCCESS_NO_INFO이고, ON DUPLICATE KEY의 건수는 CLIENT_FOUND_ROWS에 따라
+ * 중복도 1로 나오므로 건수로는 판단하지 않는다)
+ * <p>
+ * 동시에 같은 쌍을 공유해 무시된 행은 이미 공유된 것으로 센다.
+ * 알림과 반 요약 캐시 무효화는 실제로 새로 공유받은 학생이 있을 때만 한다.
+ */
+@Slf4j
+@Service
+public class MaterialBulkShareService {
+
+	private static final String OWNED_MATERIALS_SQL =
+		"SELECT id, title FROM materials " +
+			"WHERE id IN (:materialIds) AND teacher_id = :teacherId AND deleted_at IS NULL " +
+			"ORDER BY id";
+
+	private static final String OWNED_CLASSROOMS_SQL =
+		"SELECT ct.classroom_id FROM classrooms_teachers ct " +
+			"JOIN teacher_profiles tp ON tp.id = ct.teacher_id " +
+			"WHERE tp.user_id = :teacherId AND ct.classroom_id IN (:classroomIds)";
+
+	private static final String STUDENTS_SQL =
+		"SELECT sp.user_id, u.name, sp.classroom_id FROM student_profiles sp " +
+			"JOIN users u ON u.id = sp.user_id " +
+			"WHERE sp.classroom_id IN (:classroomIds) " +
+			"ORDER BY sp.classroom_id, sp.student_number";
+
+	private static final String MISSING_PAIRS_SQL =
+		"SELECT m.id AS material_id, sp.user_id AS student_id, sp.classroom_id FROM materials m " +
+			"JOIN student_profiles sp ON sp.classroom_id IN (:classroomIds) " +
+			"WHERE m.id IN (:materialIds) " +
+			"AND NOT EXISTS (SELECT 1 FROM material_shares ms " +
+			"  WHERE ms.material_id = m.id AND ms.student_id = sp.user_id)";
+
+	private static final String MAX_SHARE_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM material_shares";
+
+	// 동시에 같은 쌍을 공유한 경우(uk_share 중복)만 무시, FK/길이 오류는 그대로 실패
+	private static final String INSERT_SQL =
+		"INSERT INTO material_shares (material_id, teacher_id, student_id, share_type, class_id, shared_at) " +
+			"VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE id = id";
+
+	// 이 요청이 넣은 쌍 (PK 범위 조회: INSERT 전 MAX(id) 이후 행만)
+	private static final String INSERTED_PAIRS_SQL =
+		"SELECT material_id, student_id FROM material_shares " +
+			"WHERE id > :maxShareId AND teacher_id = :teacherId " +
+			"AND material_id IN (:materialIds) AND class_id IN (:classroomIds)";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final JdbcTemplate jdbcTemplate;
+	private final NotificationOutboxService notificationOutboxService;
+	private final ClassroomSummaryCache classroomSummaryCache;
+	private final int batchSize;
+
+	public MaterialBulkShareService(
+		NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+		JdbcTemplate jdbcTemplate,
+		NotificationOutboxService notificationOutboxService,
+		ClassroomSummaryCache classroomSummaryCache,
+		@Value("${material.bulk-share.batch-size:1000}") int batchSize) {
+		this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+		this.jdbcTemplate = jdbcTemplate;
+		this.notificationOutboxService = notificationOutboxService;
+		this.classroomSummaryCache = classroomSummaryCache;
+		this.batchSize = Math.max(1, batchSize);
+	}
+
+	@Transactional(isolation = Isolation.REPEATABLE_READ)
+	public MaterialBulkShareResponse share(MaterialBulkShareRequest request, Long teacherId) {
+		Set<Long> materialIds = distinct(request.getMaterialIds());
+		Set<Long> classroomIds = distinct(request.getClassroomIds());
+		if (materialIds.isEmpty() || classroomIds.isEmpty()) {
+			throw new CustomException(ErrorCode.INVALID_INPUT);
+		}
+		ShareType shareType = request.getType() != null ? request.getType() : ShareType.CLASS;
+
+		// 1. 소유 자료 / 담당 반 확인
+		Map<Long, String> materials = new LinkedHashMap<>();
+		namedParameterJdbcTemplate.query(OWNED_MATERIALS_SQL, new MapSqlParameterSource()
+				.addValue("materialIds", materialIds)
+				.addValue("teacherId", teacherId),
+			rs -> {
+				materials.put(rs.getLong("id"), rs.getString("title"));
+			});
+		if (materials.size() != materialIds.size()) {
+			throw new CustomException(ErrorCode.MATERIAL_NOT_FOUND);
+		}
+
+		List<Long> ownedClassrooms = namedParameterJdbcTemplate.queryForList(OWNED_CLASSROOMS_SQL,
+			new MapSqlParameterSource()
+				.addValue("teacherId", teacherId)
+				.addValue("classroomIds", classroomIds),
+			Long.class);
+		if (Set.copyOf(ownedClassrooms).size() != classroomIds.size()) {
+			throw new CustomException(ErrorCode.FORBIDDEN);
+		}
+
+		// 2. 학생 목록 (엔티티 로딩 없이 필요한 컬럼만)
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("materialIds", materialIds)
+			.addValue("classroomIds", classroomIds);
+
+		Map<Long, StudentRow> students = new LinkedHashMap<>();
+		namedParameterJdbcTemplate.query(STUDENTS_SQL, params, rs -> {
+			long studentId = rs.getLong("user_id");
+			students.putIfAbsent(studentId, new StudentRow(studentId, rs.getString("name"),
+				rs.getLong("classroom_id")));
+		});
+
+		// 3. 아직 공유되지 않은 (자료, 학생) 쌍 (같은 스냅샷에서 MAX(id)도 함께 읽음)
+		Long maxShareId = jdbcTemplate.queryForObject(MAX_SHARE_ID_SQL, Long.class);
+		List<SharePair> missing = namedParameterJdbcTemplate.query(MISSING_PAIRS_SQL, params,
+			(rs, rowNum) -> new SharePair(rs.getLong("material_id"), rs.getLong("student_id"),
+				rs.getLong("classroom_id")));
+
+		// 4. 배치 INSERT
+		LocalDateTime sharedAt = LocalDateTime.now();
+		Timestamp sharedAtTimestamp = Timestamp.valueOf(sharedAt);
+		String shareTypeName = shareType.name();
+		jdbcTemplate.batchUpdate(INSERT_SQL, missing, batchSize, (ps, pair) -> {
+			ps.setLong(1, pair.materialId());
+			ps.setLong(2, teacherId);
+			ps.setLong(3, pair.studentId());
+			ps.setString(4, shareTypeName);
+			ps.setLong(5, pair.classroomId());
+			ps.setTimestamp(6, sharedAtTimestamp);
+		});
+
+		List<SharePair> inserted = missing.isEmpty()
+			? List.of()
+			: findInsertedPairs(missing, params, teacherId, maxShareId);
+		if (!inserted.isEmpty()) {
+			classroomSummaryCache.evictAfterCommit(teacherId);
+		}
+
+		// 5. 학생별 결과
+		Map<Long, Integer> sharedCounts = new HashMap<>();
+		Map<Long, Integer> newMaterialCounts = new HashMap<>();
+		for (SharePair pair : inserted) {
+			sharedCounts.merge(pair.studentId(), 1, Integer::sum);
+			newMaterialCounts.merge(pair.materialId(), 1, Integer::sum);
+		}
+
+		List<MaterialBulkShareResponse.StudentResult> results = new ArrayList<>(students.size());
+		for (StudentRow student : students.values()) {
+			int shared = sharedCounts.getOrDefault(student.studentId(), 0);
+			results.add(MaterialBulkShareResponse.StudentResult.builder()
+				.studentId(student.studentId())
+				.studentName(student.name())
+				.classroomId(student.classroomId())
+				.sharedCount(shared)
+				.alreadySharedCount(materials.size() - shared)
+				.build());
+		}
+
+		enqueueNotification(sharedCounts.keySet(), materials, newMaterialCounts, teacherId);
+
+		int totalShared = inserted.size();
+		int totalAlreadyShared = materials.size() * students.size() - totalShared;
+
+		log.info("자료 일괄 공유: teacherId={}, 자료 {}개, 반 {}개, 학생 {}명, 신규 {}건 (동시 공유로 무시 {}건)",
+			teacherId, materials.size(), classroomIds.size(), students.size(), totalShared,
+			missing.size() - totalShared);
+
+		return MaterialBulkShareResponse.builder()
+			.teacherId(teacherId)
+			.materialCount(materials.size())
+			.classroomCount(classroomIds.size())
+			.sharedAt(sharedAt)
+			.totalShared(totalShared)
+			.totalAlreadyShared(totalAlreadyShared)
+			.results(results)
+			.message(String.format("%d명의 학생에게 %d건 공유되었습니다", sharedCounts.size(), totalShared))
+			.build();
+	}
+
+	/**
+	 * 이 요청이 실제로 넣은 쌍 (동시 공유로 중복이 된 쌍은 빠짐)
+	 */
+	private List<SharePair> findInsertedPairs(List<SharePair> missing, MapSqlParameterSource params,
+		Long teacherId, Long maxShareId) {
+		Set<ShareKey> keys = new HashSet<>();
+		namedParameterJdbcTemplate.query(INSERTED_PAIRS_SQL, new MapSqlParameterSource(params.getValues())
+				.addValue("teacherId", teacherId)
+				.addValue("maxShareId", maxShareId),
+			rs -> {
+				keys.add(new ShareKey(rs.getLong("material_id"), rs.getLong("student_id")));
+			});
+
+		return missing.stream()
+			.filter(pair -> keys.contains(new ShareKey(pair.materialId(), pair.studentId())))
+			.toList();
+	}
+
+	private void enqueueNotification(Set<Long> recipients, Map<Long, String> materials,
+		Map<Long, Integer> newMaterialCounts, Long teacherId) {
+		if (recipients.isEmpty()) {
+			return;
+		}
+
+		List<String> titles = materials.entrySet().stream()
+			.filter(entry -> newMaterialCounts.containsKey(entry.getKey()))
+			.map(Map.Entry::getValue)
+			.toList();
+
+		String teacherName = jdbcTemplate.queryForObject("SELECT name FROM users WHERE id = ?", String.class,
+			teacherId);
+		String body = titles.size() == 1
+			? String.format("%s 선생님이 '%s'를 공유했습니다", teacherName, titles.get(0))
+			: String.format("%s 선생님이 '%s' 외 %d개 자료를 공유했습니다", teacherName, titles.get(0),
+			titles.size() - 1);
+
+		notificationOutboxService.enqueue(recipients, "새 학습자료가 공유되었습니다", body);
+	}
+
+	private Set<Long> distinct(List<Long> ids) {
+		Set<Long> distinct = new LinkedHashSet<>();
+		if (ids != null) {
+			ids.stream().filter(Objects::nonNull).forEach(distinct::add);
+		}
+		return distinct;
+	}
+
+	private record StudentRow(Long studentId, String name, Long classroomId) {
+	}
+
+	private record SharePair(long materialId, long studentId, long classroomId) {
+	}
+
+	private record ShareKey(long materialId, long studentId) {
+	}
+}
@@ -4,25 +4,24 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import A704.DODREAM.file.entity.UploadedFile;
 import A704.DODREAM.file.repository.UploadedFileRepository;
+import A704.DODREAM.file.service.ParsedDocumentCache;
 import A704.DODREAM.global.exception.CustomException;
 import A704.DODREAM.global.exception.constant.ErrorCode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
-import A704.DODREAM.fcm.dto.FcmResponse;
-import A704.DODREAM.fcm.dto.FcmSendRequest;
-import A704.DODREAM.fcm.service.FcmService;
+import A704.DODREAM.fcm.service.NotificationOutboxService;
 import A704.DODREAM.material.dto.MaterialShareListResponse;
 import A704.DODREAM.material.dto.MaterialShareRequest;
 import A704.DODREAM.material.dto.MaterialShareResponse;
+import A704.DODREAM.material.dto.ShareCursor;
 import A704.DODREAM.material.entity.Material;
 import A704.DODREAM.material.entity.MaterialShare;
 import A704.DODREAM.material.repository.MaterialRepository;
@@ -31,31 +30,27 @@ import A704.DODREAM.user.entity.Classroom;
 import A704.DODREAM.user.entity.User;
 import A704.DODREAM.user.repository.ClassroomRepository;
 import A704.DODREAM.user.repository.UserRepository;
+import A704.DODREAM.user.service.ClassroomSummaryCache;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import software.amazon.awssdk.core.ResponseInputStream;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class MaterialShareService {
+	private static final int MAX_PAGE_SIZE = 100;
+
 	private final MaterialShareRepository materialShareRepository;
 	private final MaterialRepository materialRepository;
 	private final UserRepository userRepository;
 	private final ClassroomRepository classroomRepository;
 	private final UploadedFileRepository uploadedFileRepository;
-	private final S3Client s3Client;
-	private final ObjectMapper objectMapper;
-
-	private final FcmService fcmService;
+	private final ParsedDocumentCache parsedDocumentCache;
 
-	@Value("${aws.s3.bucket}")
-	private String bucketName;
+	private final NotificationOutboxService notificationOutboxService;
+	private final ClassroomSummaryCache classroomSummaryCache;
 
     // 자료 공유
     @Transactional
@@ -90,6 +85,7 @@ public class MaterialShareService {
 
 		List<MaterialShare> sharesToSave = new ArrayList<>();
 		List<MaterialShareResponse.ShareResult> results = new ArrayList<>();
+		LocalDateTime sharedAt = LocalDateTime.now();
 
 		for (Map.Entry<Long, MaterialShareRequest.ClassShareInfo> entry : request.getShares().entrySet()) {
 			Long classId = entry.getKey();
@@ -133,7 +129,7 @@ public class MaterialShareService {
 					.student(student)
 					.shareType(info.getType())
 					.classroom(classroom)
-					.sharedAt(LocalDateTime.now())
+					.sharedAt(sharedAt)
 					.build();
 
 				sharesToSave.add(share);
@@ -142,7 +138,10 @@ public class MaterialShareService {
 
 		List<MaterialShare> savedShares = materialShareRepository.saveAll(sharesToSave);
 
-		sendNotifications(savedShares, teacher, material);
+		enqueueNotifications(savedShares, teacher, material);
+		if (!savedShares.isEmpty()) {
+			classroomSummaryCache.evictAfterCommit(teacherId);
+		}
 
 		for (MaterialShare share : savedShares) {
 
@@ -169,78 +168,95 @@ public class MaterialShareService {
 			.build();
 	}
 
-	@Async
-	public void sendNotifications(
-		List<MaterialShare> shares,
-		User teacher,
-		Material material
-	) {
+	/**
+	 * 공유 알림을 outbox에 등록 (공유 트랜잭션과 함께 커밋, 전송은 NotificationDispatcher가 수행)
+	 */
+	private void enqueueNotifications(List<MaterialShare> shares, User teacher, Material material) {
 		if (shares.isEmpty()) {
 			return;
 		}
 
-		try {
-			List<Long> studentIds = shares.stream()
-				.map(share -> share.getStudent().getId())
-				.collect(Collectors.toList());
-
-			FcmSendRequest fcmRequest = FcmSendRequest.builder()
-				.userIds(studentIds)
-				.title("새 학습자료가 공유되었습니다")
-				.body(String.format("%s 선생님이 '%s'를 공유했습니다",
-					teacher.getName(), material.getTitle()))
-				.build();
-
-			FcmResponse fcmResponse = fcmService.sendMessageTo(fcmRequest);
-
-			log.info("자료 공유 알림 전송 완료: 자료ID={}, {}",
-				material.getId(), fcmResponse.getMessage());
+		List<Long> studentIds = shares.stream()
+			.map(share -> share.getStudent().getId())
+			.collect(Collectors.toList());
 
-		} catch (Exception e) {
-			log.error("자료 공유 알림 전송 실패: 자료ID={}", material.getId(), e);
-		}
+		notificationOutboxService.enqueue(studentIds,
+			"새 학습자료가 공유되었습니다",
+			String.format("%s 선생님이 '%s'를 공유했습니다", teacher.getName(), material.getTitle()));
 	}
 
-    public MaterialShareListResponse getSharedMaterialByStudent(Long studentId){
+    /**
+     * 공유받은 자료 목록 (size를 지정하면 cursor 이후 size개씩 keyset 페이지 조회)
+     */
+    public MaterialShareListResponse getSharedMaterialByStudent(Long studentId, String cursor, Integer size){
         User student = userRepository.getReferenceById(studentId);
 
-		List<MaterialShare> shares = materialShareRepository.findByStudentId(studentId);
-
-		return MaterialShareListResponse.builder()
+		MaterialShareListResponse.MaterialShareListResponseBuilder response = MaterialShareListResponse.builder()
 			.studentId(student.getId())
-			.studentName(student.getName())
-			.totalCount(shares.size())
-			.materials(toInfoList(shares))
-			.build();
+			.studentName(student.getName());
+
+		if (size == null) {
+			return list(response, materialShareRepository.findByStudentId(studentId));
+		}
+
+		int limit = pageSize(size);
+		ShareCursor after = ShareCursor.decode(cursor);
+		return page(response, materialShareRepository.findPageByStudentId(
+			studentId, after.sharedAt(), after.id(), Limit.of(limit + 1)), limit);
 	}
 
 	public MaterialShareListResponse getSharedMaterialByStudentAndTeacher(
-		Long studentId, Long teacherId) {
+		Long studentId, Long teacherId, String cursor, Integer size) {
 
 		User student = userRepository.findById(studentId)
 			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        List<MaterialShare> shares = materialShareRepository.findByStudentIdAndTeacherId(studentId, teacherId);
-
-		return MaterialShareListResponse.builder()
+		MaterialShareListResponse.MaterialShareListResponseBuilder response = MaterialShareListResponse.builder()
 			.studentId(student.getId())
-			.studentName(student.getName())
-			.totalCount(shares.size())
-			.materials(toInfoList(shares))
-			.build();
+			.studentName(student.getName());
+
+		if (size == null) {
+			return list(response, materialShareRepository.findByStudentIdAndTeacherId(studentId, teacherId));
+		}
+
+		int limit = pageSize(size);
+		ShareCursor after = ShareCursor.decode(cursor);
+		return page(response, materialShareRepository.findPageByStudentIdAndTeacherId(
+			studentId, teacherId, after.sharedAt(), after.id(), Limit.of(limit + 1)), limit);
 	}
 
-	public MaterialShareListResponse getSharedMaterialByClass(Long classId, Long teacherId) {
+	/**
+	 * 반별 공유 자료 목록 (자료마다 최신 공유 1건)
+	 */
+	public MaterialShareListResponse getSharedMaterialByClass(Long classId, Long teacherId, String cursor,
+		Integer size) {
 
 		Classroom classroom = classroomRepository.findById(classId)
 			.orElseThrow(() -> new CustomException(ErrorCode.CLASSROOM_NOT_FOUND));
 
-        List<MaterialShare> shares = materialShareRepository.findByClassIdAndTeacherId(classId, teacherId);
+		if (size == null) {
+			return list(MaterialShareListResponse.builder(), findSharesInOrder(
+				materialShareRepository.findAllLatestShareIdsByClassIdAndTeacherId(classId, teacherId)));
+		}
 
-		return MaterialShareListResponse.builder()
-			.totalCount(shares.size())
-			.materials(toInfoList(shares))
-			.build();
+		int limit = pageSize(size);
+		ShareCursor after = ShareCursor.decode(cursor);
+		return page(MaterialShareListResponse.builder(), findSharesInOrder(
+			materialShareRepository.findLatestShareIdsByClassIdAndTeacherId(
+				classId, teacherId, after.sharedAt(), after.id(), limit + 1)), limit);
+	}
+
+	/**
+	 * 공유 ID 목록을 자료와 함께 조회 (ID 순서(sharedAt DESC, id DESC) 유지)
+	 */
+	private List<MaterialShare> findSharesInOrder(List<Long> shareIds) {
+		Map<Long, MaterialShare> shareMap = shareIds.isEmpty() ? Map.of()
+			: materialShareRepository.findAllWithMaterialByIdIn(shareIds).stream()
+				.collect(Collectors.toMap(MaterialShare::getId, Function.identity()));
+		return shareIds.stream()
+			.map(shareMap::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
 	}
 
 	public Map<String, Object> getSharedMaterialJson(Long studentId, Long materialId) {
@@ -262,17 +278,9 @@ public class MaterialShareService {
 			throw new RuntimeException("파싱된 JSON이 없습니다.");
 		}
 
-		// 4. S3에서 JSON 가져오기
+		// 4. S3에서 JSON 가져오기 (파싱 문서 캐시 사용)
 		try {
-			GetObjectRequest getRequest = GetObjectRequest.builder()
-					.bucket(bucketName)
-					.key(uploadedFile.getJsonS3Key())
-					.build();
-
-			ResponseInputStream<GetObjectResponse> response = s3Client.getObject(getRequest);
-			String jsonString = new String(response.readAllBytes());
-
-			Map<String, Object> jsonData = objectMapper.readValue(jsonString, Map.class);
+			Map<String, Object> jsonData = parsedDocumentCache.get(uploadedFile.getJsonS3Key());
 
 			List<Map<String, Object>> chapters = (List<Map<String, Object>>) jsonData.get("chapters");
 
@@ -293,6 +301,35 @@ public class MaterialShareService {
 		}
 	}
 
+	private MaterialShareListResponse list(MaterialShareListResponse.MaterialShareListResponseBuilder response,
+		List<MaterialShare> shares) {
+		return response
+			.totalCount(shares.size())
+			.materials(toInfoList(shares))
+			.build();
+	}
+
+	/**
+	 * limit + 1개를 조회한 결과로 페이지 생성 (초과분이 있으면 다음 페이지 있음)
+	 */
+	private MaterialShareListResponse page(MaterialShareListResponse.MaterialShareListResponseBuilder response,
+		List<MaterialShare> shares, int limit) {
+		boolean hasNext = shares.size() > limit;
+		List<MaterialShare> content = hasNext ? shares.subList(0, limit) : shares;
+		MaterialShare last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+		return response
+			.totalCount(content.size())
+			.materials(toInfoList(content))
+			.hasNext(hasNext)
+			.nextCursor(hasNext ? new ShareCursor(last.getSharedAt(), last.getId()).encode() : null)
+			.build();
+	}
+
+	private int pageSize(int size) {
+		return Math.min(MAX_PAGE_SIZE, Math.max(1, size));
+	}
+
 	private List<MaterialShareListResponse.SharedMaterialInfo> toInfoList(
 		List<MaterialShare> shares) {
 		return shares.stream()
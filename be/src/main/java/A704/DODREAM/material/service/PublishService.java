@@ -2,12 +2,17 @@ package A704.DODREAM.material.service;
 
 import A704.DODREAM.file.enums.PostStatus;
 import A704.DODREAM.file.service.CloudFrontService;
+import A704.DODREAM.file.service.ParsedDocumentCache;
 import A704.DODREAM.material.dto.PublishRequest;
 import A704.DODREAM.material.dto.PublishResponseDto;
 import A704.DODREAM.file.entity.UploadedFile;
 import A704.DODREAM.file.repository.UploadedFileRepository;
+import A704.DODREAM.global.client.AiOperation;
+import A704.DODREAM.global.client.AiServiceClient;
 import A704.DODREAM.global.exception.CustomException;
 import A704.DODREAM.global.exception.constant.ErrorCode;
+import A704.DODREAM.material.document.ChapterHeader;
+import A704.DODREAM.material.document.MaterialDocumentReader;
 import A704.DODREAM.material.dto.PublishedMaterialListResponse;
 import A704.DODREAM.material.entity.Material;
 import A704.DODREAM.material.enums.LabelColor;
@@ -15,20 +20,20 @@ import A704.DODREAM.material.repository.MaterialRepository;
 import A704.DODREAM.quiz.service.QuizService;
 import A704.DODREAM.user.entity.User;
 import A704.DODREAM.user.repository.UserRepository;
+import A704.DODREAM.user.service.ClassroomSummaryCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -44,16 +49,17 @@ public class PublishService {
 	private final UploadedFileRepository uploadedFileRepository;
 	private final S3Client s3Client;
 	private final ObjectMapper objectMapper;
-	private final WebClient webClient; // (WebClientConfig Bean으로 생성되었다고 가정)
+	private final AiServiceClient aiServiceClient;
 	private final CloudFrontService cloudFrontService; // (CloudFrontService Bean으로 생성되었다고 가정)
 	private final QuizService quizService;
+	private final ParsedDocumentCache parsedDocumentCache;
+	private final MaterialDocumentReader materialDocumentReader;
+	private final ChapterIndexService chapterIndexService;
+	private final ClassroomSummaryCache classroomSummaryCache;
 
 	@Value("${aws.s3.bucket}")
 	private String bucketName;
 
-	@Value("${fastapi.url}")
-	private String fastApiUrl;
-
 	@Transactional
 	public PublishResponseDto publishJsonWithIds(
 		Long pdfId,
@@ -99,6 +105,9 @@ public class PublishService {
 				RequestBody.fromString(jsonString, StandardCharsets.UTF_8)
 			);
 
+			// 같은 키에 덮어썼으므로 이전 버전 캐시 제거
+			parsedDocumentCache.invalidate(uploadedFile.getJsonS3Key());
+
 			// --- (신규) type: "quiz"인 데이터만 필터링하여 별도 S3에 저장 ---
 			try {
 				List<Map<String, Object>> quizChapters = filterQuizChapters(publishRequest.getEditedJson());
@@ -168,6 +177,20 @@ public class PublishService {
 
 			log.info("✅ 자료 발행 및 Material 저장 완료 [Material ID: {}]", material.getId());
 
+			// 챕터 인덱스 저장 (진행률 리포트가 JSON 본문 없이 챕터별 진행률을 계산하도록)
+			List<ChapterHeader> chapterHeaders;
+			try {
+				chapterHeaders = materialDocumentReader.readHeaders(
+					new ByteArrayInputStream(jsonString.getBytes(StandardCharsets.UTF_8)));
+			} catch (Exception indexError) {
+				// 인덱스가 없으면 리포트는 챕터 상세 없이 제공되므로 발행은 계속 진행
+				log.error("❗️ 챕터 인덱스 생성 실패: {}", indexError.getMessage(), indexError);
+				chapterHeaders = null;
+			}
+			if (chapterHeaders != null) {
+				chapterIndexService.save(material.getId(), chapterHeaders);
+			}
+
 			// ===============================================================
 			// [추가된 로직] 5. QuizService를 통해 퀴즈 DB 저장
 			// ===============================================================
@@ -200,34 +223,25 @@ public class PublishService {
 				// 1. FastAPI가 다운로드할 수 있도록 JSON S3 Key에 대한 CloudFront URL 생성
 				String jsonCloudFrontUrl = cloudFrontService.generateSignedUrl(uploadedFile.getJsonS3Key());
 
-				// 2. FastAPI 엔드포인트 및 요청 바디 정의
-				String fastApiEndpoint = fastApiUrl + "/rag/embeddings/create"; // (main.py의 root_path="/ai" 기준)
-
+				// 2. FastAPI 요청 바디 정의
 				Map<String, String> fastApiRequest = Map.of(
 					"document_id", material.getId().toString(),
 					"s3_url", jsonCloudFrontUrl
 				);
 
-				// 3. WebClient로 FastAPI 호출 (컨트롤러에서 받은 JWT 토큰 전달)
+				// 3. FastAPI 호출 (컨트롤러에서 받은 JWT 토큰 전달)
 				if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
 					throw new RuntimeException("FastAPI 인증을 위한 JWT 토큰이 없습니다.");
 				}
 
-				ResponseEntity<Map> fastApiResponse = webClient.post().uri(fastApiEndpoint)
-					.header("Authorization", authorizationHeader) // "Bearer <token>"
-					.bodyValue(fastApiRequest)
-					.retrieve()
-					.onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
-						clientResponse -> clientResponse.bodyToMono(String.class)
-							.map(errorBody -> new RuntimeException("FastAPI 에러: " + errorBody)))
-					.toEntity(Map.class)
-					.block(); // (참고) 동기식 호출입니다.
-
-				if (fastApiResponse == null || fastApiResponse.getBody() == null) {
+				Map<String, Object> fastApiResponse = aiServiceClient.postAndWait(AiOperation.CREATE_EMBEDDING,
+					fastApiRequest, authorizationHeader);
+
+				if (fastApiResponse == null) {
 					throw new RuntimeException("FastAPI 응답이 비어있습니다.");
 				}
 
-				log.info("✅ FastAPI 임베딩 생성 요청 성공: {}", fastApiResponse.getBody());
+				log.info("✅ FastAPI 임베딩 생성 요청 성공: {}", fastApiResponse);
 
 			} catch (Exception fastApiError) {
 				// (중요) 임베딩 실패가 '발행' 자체를 롤백해서는 안 됨.
@@ -355,8 +369,13 @@ public class PublishService {
                     }
                 });
 
+        if (uploadedFile.getJsonS3Key() != null) {
+            parsedDocumentCache.invalidate(uploadedFile.getJsonS3Key());
+        }
+
         material.softDelete();
         materialRepository.save(material);
+        classroomSummaryCache.evictAfterCommit(userId);
     }
 
 	/**
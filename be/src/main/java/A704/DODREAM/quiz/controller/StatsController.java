@@ -3,13 +3,17 @@ package A704.DODREAM.quiz.controller;
 import java.util.List;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import A704.DODREAM.auth.dto.request.UserPrincipal;
+import A704.DODREAM.quiz.dto.MaterialQuizAnalyticsResponse;
 import A704.DODREAM.quiz.dto.StudentMaterialStatsDto;
 import A704.DODREAM.quiz.dto.StudentOverallStatsDto;
+import A704.DODREAM.quiz.service.QuizAnalyticsService;
 import A704.DODREAM.quiz.service.QuizService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -22,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 public class StatsController {
 
 	private final QuizService quizService;
+	private final QuizAnalyticsService quizAnalyticsService;
 
 	@Operation(summary = "학생의 자료별 성적 리스트 조회", description = "특정 학생이 푼 모든 자료들의 성적(맞춘 개수, 정답률)을 리스트로 조회합니다.")
 	@GetMapping("/student/{studentId}/materials")
@@ -38,4 +43,13 @@ public class StatsController {
 	) {
 		return ResponseEntity.ok(quizService.getStudentOverallStats(studentId));
 	}
+
+	@Operation(summary = "자료별 퀴즈 분석 조회 (선생님)", description = "자료의 문항별 정답률, 많이 나온 오답, 정답률이 낮은 학생을 조회합니다.")
+	@GetMapping("/materials/{materialId}/quizzes")
+	public ResponseEntity<MaterialQuizAnalyticsResponse> getMaterialQuizAnalytics(
+		@PathVariable Long materialId,
+		@AuthenticationPrincipal UserPrincipal userPrincipal
+	) {
+		return ResponseEntity.ok(quizAnalyticsService.getAnalytics(materialId, userPrincipal.userId()));
+	}
 }
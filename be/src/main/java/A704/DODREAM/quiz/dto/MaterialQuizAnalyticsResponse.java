@@ -0,0 +1,52 @@
+package A704.DODREAM.quiz.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 자료별 퀴즈 분석 (선생님)
+ * 정답률은 학생마다 퀴즈별 최신 풀이 기준, 오답은 전체 풀이 기준
+ */
+@Getter
+@Builder
+public class MaterialQuizAnalyticsResponse {
+	private Long materialId;
+	private int participantCount;   // 한 번이라도 푼 학생 수
+	private int totalAttempts;      // 전체 풀이 수
+	private List<QuestionStats> questions;
+	private List<StrugglingStudent> strugglingStudents; // 정답률 낮은 순
+	private LocalDateTime generatedAt;
+
+	@Getter
+	@Builder
+	public static class QuestionStats {
+		private Long quizId;
+		private Integer questionNumber;
+		private String title;
+		private int studentCount;     // 푼 학생 수
+		private int attemptCount;     // 전체 풀이 수
+		private int correctCount;     // 최신 풀이가 정답인 학생 수
+		private double correctRate;   // 정답률 (%)
+		private List<WrongAnswer> commonWrongAnswers; // 많이 나온 오답 순
+	}
+
+	@Getter
+	@Builder
+	public static class WrongAnswer {
+		private String answer;
+		private int count;
+	}
+
+	@Getter
+	@Builder
+	public static class StrugglingStudent {
+		private Long studentId;
+		private String studentName;
+		private int solvedCount;      // 푼 퀴즈 수
+		private int correctCount;     // 최신 풀이가 정답인 퀴즈 수
+		private double correctRate;   // 정답률 (%)
+	}
+}
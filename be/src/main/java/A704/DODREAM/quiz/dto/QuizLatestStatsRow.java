@@ -0,0 +1,16 @@
+package A704.DODREAM.quiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 자료의 문항별 집계 (최신 풀이 기준, 조회 전용)
+ */
+@Getter
+@AllArgsConstructor
+public class QuizLatestStatsRow {
+	private Long quizId;
+	private Long studentCount;   // 푼 학생 수
+	private Long correctCount;   // 최신 풀이가 정답인 학생 수
+	private Long tryCount;       // 전체 풀이 횟수
+}
@@ -0,0 +1,12 @@
+package A704.DODREAM.quiz.dto;
+
+/**
+ * 문항별로 많이 나온 오답 (공백 정리 후 묶음, 조회 전용)
+ */
+public interface QuizWrongAnswerRow {
+	Long getQuizId();
+
+	String getAnswer();
+
+	Long getAnswerCount();
+}
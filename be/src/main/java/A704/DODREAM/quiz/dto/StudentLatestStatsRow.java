@@ -0,0 +1,15 @@
+package A704.DODREAM.quiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 자료 안에서 학생별 집계 (최신 풀이 기준, 조회 전용)
+ */
+@Getter
+@AllArgsConstructor
+public class StudentLatestStatsRow {
+	private Long studentId;
+	private Long solvedCount;    // 푼 퀴즈 수
+	private Long correctCount;   // 최신 풀이가 정답인 퀴즈 수
+}
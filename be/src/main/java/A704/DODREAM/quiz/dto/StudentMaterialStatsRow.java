@@ -0,0 +1,17 @@
+package A704.DODREAM.quiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 학생의 자료별 퀴즈 집계 (최신 풀이 기준, 조회 전용)
+ */
+@Getter
+@AllArgsConstructor
+public class StudentMaterialStatsRow {
+	private Long materialId;
+	private String materialTitle;
+	private Long correctCount;   // 최신 풀이가 정답인 퀴즈 수
+	private Long tryCount;       // 전체 풀이 횟수
+	private Integer totalQuizCount;
+}
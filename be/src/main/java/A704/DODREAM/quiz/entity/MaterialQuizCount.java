@@ -0,0 +1,30 @@
+package A704.DODREAM.quiz.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자료별 퀴즈 개수 (통계용, 퀴즈 저장 시 갱신)
+ */
+@Entity
+@Table(name = "material_quiz_counts")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MaterialQuizCount {
+
+	@Id
+	@Column(name = "material_id")
+	private Long materialId;
+
+	@Column(name = "quiz_count", nullable = false)
+	private int quizCount;
+}
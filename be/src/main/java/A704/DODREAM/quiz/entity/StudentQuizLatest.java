@@ -0,0 +1,60 @@
+package A704.DODREAM.quiz.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 학생 x 퀴즈별 최신 풀이 결과 (통계용 프로젝션)
+ * 채점할 때마다 upsert되며, 전체 풀이 로그는 StudentQuizLog에 그대로 남는다.
+ */
+@Entity
+@Table(name = "student_quiz_latest",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_quiz_latest_student_quiz", columnNames = {"student_id", "quiz_id"})
+	},
+	indexes = {
+		@Index(name = "idx_quiz_latest_student_material", columnList = "student_id, material_id"),
+		@Index(name = "idx_quiz_latest_material", columnList = "material_id, quiz_id")
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StudentQuizLatest {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "student_id", nullable = false)
+	private Long studentId;
+
+	@Column(name = "quiz_id", nullable = false)
+	private Long quizId;
+
+	@Column(name = "material_id", nullable = false)
+	private Long materialId;
+
+	@Column(name = "is_correct", nullable = false)
+	private boolean correct; // 최신 풀이의 정답 여부
+
+	@Column(name = "try_count", nullable = false)
+	private int tryCount; // 지금까지 푼 횟수
+
+	@Column(name = "solved_at")
+	private LocalDateTime solvedAt; // 최신 풀이 시각
+}
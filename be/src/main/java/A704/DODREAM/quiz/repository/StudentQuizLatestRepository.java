@@ -0,0 +1,42 @@
+package A704.DODREAM.quiz.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import A704.DODREAM.quiz.dto.QuizLatestStatsRow;
+import A704.DODREAM.quiz.dto.StudentLatestStatsRow;
+import A704.DODREAM.quiz.dto.StudentMaterialStatsRow;
+import A704.DODREAM.quiz.entity.StudentQuizLatest;
+
+public interface StudentQuizLatestRepository extends JpaRepository<StudentQuizLatest, Long> {
+
+	// 학생의 자료별 정답 수/시도 횟수/퀴즈 수 (idx_quiz_latest_student_material 사용, 쿼리 1번)
+	@Query("SELECT new A704.DODREAM.quiz.dto.StudentMaterialStatsRow(" +
+		"l.materialId, m.title, SUM(CASE WHEN l.correct = true THEN 1 ELSE 0 END), SUM(l.tryCount), c.quizCount) " +
+		"FROM StudentQuizLatest l " +
+		"JOIN MaterialQuizCount c ON c.materialId = l.materialId " +
+		"JOIN Material m ON m.id = l.materialId " +
+		"WHERE l.studentId = :studentId AND c.quizCount > 0 " +
+		"GROUP BY l.materialId, m.title, c.quizCount " +
+		"ORDER BY l.materialId")
+	List<StudentMaterialStatsRow> findMaterialStatsByStudentId(@Param("studentId") Long studentId);
+
+	// 자료의 문항별 푼 학생 수/정답 학생 수/시도 횟수 (idx_quiz_latest_material 사용)
+	@Query("SELECT new A704.DODREAM.quiz.dto.QuizLatestStatsRow(" +
+		"l.quizId, COUNT(l), SUM(CASE WHEN l.correct = true THEN 1 ELSE 0 END), SUM(l.tryCount)) " +
+		"FROM StudentQuizLatest l " +
+		"WHERE l.materialId = :materialId " +
+		"GROUP BY l.quizId")
+	List<QuizLatestStatsRow> findQuizStatsByMaterialId(@Param("materialId") Long materialId);
+
+	// 자료 안에서 학생별 푼 퀴즈 수/정답 수 (idx_quiz_latest_material 사용)
+	@Query("SELECT new A704.DODREAM.quiz.dto.StudentLatestStatsRow(" +
+		"l.studentId, COUNT(l), SUM(CASE WHEN l.correct = true THEN 1 ELSE 0 END)) " +
+		"FROM StudentQuizLatest l " +
+		"WHERE l.materialId = :materialId " +
+		"GROUP BY l.studentId")
+	List<StudentLatestStatsRow> findStudentStatsByMaterialId(@Param("materialId") Long materialId);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import A704.DODREAM.quiz.dto.QuizWrongAnswerRow;
 import A704.DODREAM.quiz.entity.StudentQuizLog;
 
 public interface StudentQuizLogRepository extends JpaRepository<StudentQuizLog, Long> {
@@ -23,4 +24,20 @@ public interface StudentQuizLogRepository extends JpaRepository<StudentQuizLog,
 	// 특정 학생의 모든 풀이 로그 조회 (종합 통계용, Material 정보 필요하므로 Quiz->Material Fetch Join)
 	@Query("SELECT sql FROM StudentQuizLog sql JOIN FETCH sql.quiz q JOIN FETCH q.material m WHERE sql.student.id = :studentId")
 	List<StudentQuizLog> findAllByStudentIdWithMaterial(@Param("studentId") Long studentId);
-}
\ No newline at end of file
+
+	// 자료 분석용: 문항별로 많이 나온 오답 상위 :limit개 (공백 정리 후 DB에서 묶음, idx_quiz_log_quiz 사용)
+	@Query(value = "SELECT ranked.quiz_id AS quizId, ranked.answer AS answer, ranked.cnt AS answerCount " +
+		"FROM (SELECT grouped.quiz_id, grouped.answer, grouped.cnt, " +
+		"        ROW_NUMBER() OVER (PARTITION BY grouped.quiz_id ORDER BY grouped.cnt DESC, grouped.answer) AS rn " +
+		"      FROM (SELECT l.quiz_id, " +
+		"              TRIM(REGEXP_REPLACE(l.student_answer, '[[:space:]]+', ' ')) AS answer, " +
+		"              COUNT(*) AS cnt " +
+		"            FROM student_quiz_logs l " +
+		"            JOIN quizzes q ON q.id = l.quiz_id " +
+		"            WHERE q.material_id = :materialId AND l.is_correct = false " +
+		"            GROUP BY l.quiz_id, answer) grouped) ranked " +
+		"WHERE ranked.rn <= :limit " +
+		"ORDER BY ranked.quiz_id, ranked.rn", nativeQuery = true)
+	List<QuizWrongAnswerRow> findTopWrongAnswersByMaterialId(@Param("materialId") Long materialId,
+		@Param("limit") int limit);
+}
@@ -0,0 +1,88 @@
+package A704.DODREAM.quiz.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 채점 결과 캐시
+ * <p>
+ * (자료, 퀴즈, 정규화한 답안의 SHA-256)을 키로 정답 여부와 AI 피드백을 보관한다.
+ * 같은 반 학생들이 같은 답을 내면 LLM 채점을 한 번만 호출한다.
+ * 답안은 LocalQuizGrader.normalize(NFKC, 소문자) 후 연속 공백만 하나로 접어 키로 쓴다.
+ * 부호, 소수점, 구분자를 지우면 서로 다른 답(x = -3 / x=3)이 한 채점 결과를 공유하므로 그대로 둔다.
+ * <p>
+ * 퀴즈를 다시 저장하면 해당 자료의 항목을 모두 제거한다.
+ * 적중률은 quizGradingCache 캐시 메트릭(cache.gets{result=hit|miss})으로 확인한다.
+ */
+@Slf4j
+@Component
+public class GradingResultCache {
+
+	private final Cache<GradeKey, CachedGrade> cache;
+
+	public GradingResultCache(
+		MeterRegistry meterRegistry,
+		@Value("${quiz.grading-cache.max-size:50000}") long maxSize,
+		@Value("${quiz.grading-cache.expire-after-write-hours:24}") long expireAfterWriteHours) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofHours(expireAfterWriteHours))
+			.recordStats()
+			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "quizGradingCache");
+	}
+
+	public Optional<CachedGrade> get(Long materialId, Long quizId, String studentAnswer) {
+		return Optional.ofNullable(cache.getIfPresent(key(materialId, quizId, studentAnswer)));
+	}
+
+	public void put(Long materialId, Long quizId, String studentAnswer, boolean correct, String aiFeedback) {
+		cache.put(key(materialId, quizId, studentAnswer), new CachedGrade(correct, aiFeedback));
+	}
+
+	/**
+	 * 자료의 채점 결과 모두 제거 (퀴즈를 다시 저장한 경우)
+	 */
+	public void invalidateMaterial(Long materialId) {
+		cache.asMap().keySet().removeIf(key -> key.materialId().equals(materialId));
+		log.info("채점 결과 캐시 무효화: materialId={}", materialId);
+	}
+
+	private GradeKey key(Long materialId, Long quizId, String studentAnswer) {
+		String normalized = LocalQuizGrader.collapseWhitespace(LocalQuizGrader.normalize(studentAnswer));
+		return new GradeKey(materialId, quizId, sha256Hex(normalized));
+	}
+
+	private String sha256Hex(String value) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	private record GradeKey(Long materialId, Long quizId, String answerHash) {
+	}
+
+	/**
+	 * 캐시된 채점 결과
+	 */
+	public record CachedGrade(boolean correct, String aiFeedback) {
+	}
+}
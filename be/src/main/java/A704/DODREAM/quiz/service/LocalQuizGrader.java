@@ -0,0 +1,155 @@
+package A704.DODREAM.quiz.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import A704.DODREAM.quiz.dto.GradingResultDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * FastAPI 호출 전에 실행하는 결정적 채점
+ * <p>
+ * 확실히 판단할 수 있는 답안만 채점하고, 나머지는 empty를 반환해 AI 채점으로 넘긴다.
+ * - 빈 답안: 오답
+ * - 정답과 학생 답이 모두 숫자: 수치 비교 (1,000 = 1000, 0.50 = 0.5, 1/2 = 0.5), 분수가 다르면 AI 채점
+ * - 유니코드 정규화(NFKC) + 소문자 + 연속 공백을 하나로 + 끝의 마침표/물음표/느낌표를 뗀 문자열이 같으면: 정답
+ * <p>
+ * 부호, 소수점, 쉼표/괄호 같은 구분자는 답의 의미를 바꾸므로(x = -3 / x=3, 1.5cm / 15cm, (3, 2) / 32) 지우지 않는다.
+ * <p>
+ * 처리 비율은 quiz.grading.local 카운터(result=decided|forwarded)로 기록한다.
+ */
+@Component
+public class LocalQuizGrader {
+
+	private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+	private static final Pattern TRAILING_PUNCTUATION_PATTERN = Pattern.compile("[.!?。]+$");
+	private static final Pattern NUMBER_PATTERN = Pattern.compile("[-+]?(\\d{1,3}(,\\d{3})+|\\d+)?(\\.\\d+)?");
+	private static final Pattern FRACTION_PATTERN = Pattern.compile("([-+]?\\d+)/(\\d+)");
+
+	private final Counter decidedCounter;
+	private final Counter forwardedCounter;
+
+	public LocalQuizGrader(MeterRegistry meterRegistry) {
+		this.decidedCounter = gradingCounter(meterRegistry, "decided");
+		this.forwardedCounter = gradingCounter(meterRegistry, "forwarded");
+	}
+
+	/**
+	 * 로컬 채점
+	 *
+	 * @return 확실한 경우 채점 결과, 판단할 수 없으면 empty (AI 채점 필요)
+	 */
+	public Optional<GradingResultDto> grade(Long quizId, String correctAnswer, String studentAnswer) {
+		Boolean correct = decide(correctAnswer, studentAnswer);
+		if (correct == null) {
+			forwardedCounter.increment();
+			return Optional.empty();
+		}
+
+		decidedCounter.increment();
+		return Optional.of(GradingResultDto.builder()
+			.quizId(quizId)
+			.studentAnswer(studentAnswer != null ? studentAnswer : "")
+			.isCorrect(correct)
+			.aiFeedback(feedback(correct, studentAnswer, correctAnswer))
+			.build());
+	}
+
+	private Boolean decide(String correctAnswer, String studentAnswer) {
+		String student = normalize(studentAnswer);
+		if (student.isBlank()) {
+			return false;
+		}
+		String answer = normalize(correctAnswer);
+		if (answer.isBlank()) {
+			return null;
+		}
+
+		BigDecimal answerNumber = parseNumber(answer);
+		BigDecimal studentNumber = parseNumber(student);
+		if (answerNumber != null && studentNumber != null) {
+			if (answerNumber.compareTo(studentNumber) == 0) {
+				return true;
+			}
+			// 분수는 근사값(1/3 ≈ 0.333)으로 답했을 수 있으므로 AI 채점으로 넘김
+			boolean fraction = isFraction(answer) || isFraction(student);
+			return fraction ? null : false;
+		}
+
+		String foldedAnswer = fold(answer);
+		if (!foldedAnswer.isEmpty() && foldedAnswer.equals(fold(student))) {
+			return true;
+		}
+		return null;
+	}
+
+	/**
+	 * 유니코드 정규화 (NFKC: 전각/호환 문자 통일) + 앞뒤 공백 제거 + 소문자
+	 */
+	public static String normalize(String value) {
+		if (value == null) {
+			return "";
+		}
+		return Normalizer.normalize(value, Normalizer.Form.NFKC).strip().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 연속 공백을 하나로 + 끝의 문장부호 제거 (정규화된 문자열 기준)
+	 */
+	public static String fold(String normalized) {
+		return TRAILING_PUNCTUATION_PATTERN.matcher(collapseWhitespace(normalized)).replaceAll("").strip();
+	}
+
+	/**
+	 * 연속 공백을 하나로 (정규화된 문자열 기준, 그 밖의 문자는 그대로)
+	 */
+	public static String collapseWhitespace(String normalized) {
+		return WHITESPACE_PATTERN.matcher(normalized).replaceAll(" ");
+	}
+
+	private BigDecimal parseNumber(String value) {
+		String compact = value.replace(" ", "");
+		Matcher fraction = FRACTION_PATTERN.matcher(compact);
+		if (fraction.matches()) {
+			BigDecimal denominator = new BigDecimal(fraction.group(2));
+			if (denominator.signum() == 0) {
+				return null;
+			}
+			return new BigDecimal(fraction.group(1)).divide(denominator, MathContext.DECIMAL64);
+		}
+
+		if (compact.isEmpty() || !NUMBER_PATTERN.matcher(compact).matches() || !compact.matches(".*\\d.*")) {
+			return null;
+		}
+		return new BigDecimal(compact.replace(",", ""));
+	}
+
+	private boolean isFraction(String value) {
+		return FRACTION_PATTERN.matcher(value.replace(" ", "")).matches();
+	}
+
+	private String feedback(boolean correct, String studentAnswer, String correctAnswer) {
+		if (correct) {
+			return "정답입니다.";
+		}
+		if (normalize(studentAnswer).isBlank()) {
+			return "답안이 입력되지 않았습니다. 정답은 '" + correctAnswer + "'입니다.";
+		}
+		return "오답입니다. 정답은 '" + correctAnswer + "'입니다.";
+	}
+
+	private Counter gradingCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("quiz.grading.local")
+			.description("로컬 채점 결과 (decided: 로컬에서 채점, forwarded: AI 채점으로 전달)")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
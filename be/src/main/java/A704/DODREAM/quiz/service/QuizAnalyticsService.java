@@ -0,0 +1,197 @@
+package A704.DODREAM.quiz.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import A704.DODREAM.global.exception.CustomException;
+import A704.DODREAM.global.exception.constant.ErrorCode;
+import A704.DODREAM.material.entity.Material;
+import A704.DODREAM.material.repository.MaterialRepository;
+import A704.DODREAM.quiz.dto.MaterialQuizAnalyticsResponse;
+import A704.DODREAM.quiz.dto.QuizLatestStatsRow;
+import A704.DODREAM.quiz.dto.QuizWrongAnswerRow;
+import A704.DODREAM.quiz.dto.StudentLatestStatsRow;
+import A704.DODREAM.quiz.entity.Quiz;
+import A704.DODREAM.quiz.repository.QuizRepository;
+import A704.DODREAM.quiz.repository.StudentQuizLatestRepository;
+import A704.DODREAM.quiz.repository.StudentQuizLogRepository;
+import A704.DODREAM.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자료별 퀴즈 분석 (선생님 대시보드)
+ * <p>
+ * 문항별 정답률과 정답률이 낮은 학생은 최신 풀이 프로젝션(student_quiz_latest)에서, 많이 나온 오답은
+ * 풀이 로그를 DB에서 묶어 상위 몇 개만 가져온다. 풀이 로그 전체를 애플리케이션으로 읽지 않는다. 결과는 자료별로 캐시하고 새 제출/퀴즈 저장 시 무효화한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class QuizAnalyticsService {
+
+	private final StudentQuizLogRepository studentQuizLogRepository;
+	private final StudentQuizLatestRepository studentQuizLatestRepository;
+	private final QuizRepository quizRepository;
+	private final MaterialRepository materialRepository;
+	private final UserRepository userRepository;
+	private final int topWrongAnswers;
+	private final double strugglingRate;
+	private final Cache<Long, MaterialQuizAnalyticsResponse> cache;
+
+	public QuizAnalyticsService(
+		StudentQuizLogRepository studentQuizLogRepository,
+		StudentQuizLatestRepository studentQuizLatestRepository,
+		QuizRepository quizRepository,
+		MaterialRepository materialRepository,
+		UserRepository userRepository,
+		@Value("${quiz.analytics.top-wrong-answers:3}") int topWrongAnswers,
+		@Value("${quiz.analytics.struggling-rate:50}") double strugglingRate,
+		@Value("${quiz.analytics.cache-minutes:10}") long cacheMinutes) {
+		this.studentQuizLogRepository = studentQuizLogRepository;
+		this.studentQuizLatestRepository = studentQuizLatestRepository;
+		this.quizRepository = quizRepository;
+		this.materialRepository = materialRepository;
+		this.userRepository = userRepository;
+		this.topWrongAnswers = topWrongAnswers;
+		this.strugglingRate = strugglingRate;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(1_000)
+			.expireAfterWrite(Duration.ofMinutes(cacheMinutes))
+			.build();
+	}
+
+	/**
+	 * 자료별 퀴즈 분석 조회 (자료를 올린 선생님만)
+	 */
+	public MaterialQuizAnalyticsResponse getAnalytics(Long materialId, Long teacherId) {
+		Material material = materialRepository.findById(materialId)
+			.orElseThrow(() -> new CustomException(ErrorCode.MATERIAL_NOT_FOUND));
+
+		if (!material.getTeacher().getId().equals(teacherId)) {
+			throw new CustomException(ErrorCode.FORBIDDEN);
+		}
+
+		MaterialQuizAnalyticsResponse cached = cache.getIfPresent(materialId);
+		if (cached != null) {
+			return cached;
+		}
+
+		MaterialQuizAnalyticsResponse analytics = compute(materialId);
+		cache.put(materialId, analytics);
+		return analytics;
+	}
+
+	/**
+	 * 캐시 무효화 (트랜잭션 안이면 커밋 후)
+	 */
+	public void invalidateAfterCommit(Long materialId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			cache.invalidate(materialId);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				cache.invalidate(materialId);
+			}
+		});
+	}
+
+	private MaterialQuizAnalyticsResponse compute(Long materialId) {
+		// 문항/학생 집계는 최신 풀이 프로젝션에서, 오답 묶음은 풀이 로그에서 DB가 계산
+		Map<Long, QuizLatestStatsRow> quizStats = new HashMap<>();
+		for (QuizLatestStatsRow row : studentQuizLatestRepository.findQuizStatsByMaterialId(materialId)) {
+			quizStats.put(row.getQuizId(), row);
+		}
+
+		Map<Long, List<MaterialQuizAnalyticsResponse.WrongAnswer>> wrongAnswers = new HashMap<>();
+		if (topWrongAnswers > 0) {
+			for (QuizWrongAnswerRow row : studentQuizLogRepository.findTopWrongAnswersByMaterialId(materialId,
+				topWrongAnswers)) {
+				wrongAnswers.computeIfAbsent(row.getQuizId(), id -> new ArrayList<>())
+					.add(MaterialQuizAnalyticsResponse.WrongAnswer.builder()
+						.answer(row.getAnswer())
+						.count(row.getAnswerCount().intValue())
+						.build());
+			}
+		}
+
+		List<StudentLatestStatsRow> students = studentQuizLatestRepository.findStudentStatsByMaterialId(materialId);
+
+		int totalAttempts = 0;
+		List<MaterialQuizAnalyticsResponse.QuestionStats> questionStats = new ArrayList<>();
+		for (Quiz quiz : quizRepository.findAllByMaterialIdOrderByQuestionNumber(materialId)) {
+			QuizLatestStatsRow row = quizStats.get(quiz.getId());
+			int studentCount = row != null ? row.getStudentCount().intValue() : 0;
+			int correctCount = row != null ? row.getCorrectCount().intValue() : 0;
+			int attemptCount = row != null ? row.getTryCount().intValue() : 0;
+			totalAttempts += attemptCount;
+
+			questionStats.add(MaterialQuizAnalyticsResponse.QuestionStats.builder()
+				.quizId(quiz.getId())
+				.questionNumber(quiz.getQuestionNumber())
+				.title(quiz.getTitle())
+				.studentCount(studentCount)
+				.attemptCount(attemptCount)
+				.correctCount(correctCount)
+				.correctRate(rate(correctCount, studentCount))
+				.commonWrongAnswers(wrongAnswers.getOrDefault(quiz.getId(), List.of()))
+				.build());
+		}
+
+		List<StudentLatestStatsRow> struggling = students.stream()
+			.filter(student -> studentRate(student) < strugglingRate)
+			.sorted(Comparator.comparingDouble(this::studentRate)
+				.thenComparing(StudentLatestStatsRow::getStudentId))
+			.toList();
+
+		Map<Long, String> names = new HashMap<>();
+		if (!struggling.isEmpty()) {
+			userRepository.findAllById(struggling.stream().map(StudentLatestStatsRow::getStudentId).toList())
+				.forEach(user -> names.put(user.getId(), user.getName()));
+		}
+
+		log.info("자료 퀴즈 분석 계산: materialId={}, students={}, attempts={}", materialId, students.size(),
+			totalAttempts);
+
+		return MaterialQuizAnalyticsResponse.builder()
+			.materialId(materialId)
+			.participantCount(students.size())
+			.totalAttempts(totalAttempts)
+			.questions(questionStats)
+			.strugglingStudents(struggling.stream()
+				.map(student -> MaterialQuizAnalyticsResponse.StrugglingStudent.builder()
+					.studentId(student.getStudentId())
+					.studentName(names.get(student.getStudentId()))
+					.solvedCount(student.getSolvedCount().intValue())
+					.correctCount(student.getCorrectCount().intValue())
+					.correctRate(studentRate(student))
+					.build())
+				.toList())
+			.generatedAt(LocalDateTime.now())
+			.build();
+	}
+
+	private double studentRate(StudentLatestStatsRow student) {
+		return rate(student.getCorrectCount().intValue(), student.getSolvedCount().intValue());
+	}
+
+	private double rate(int correct, int total) {
+		return total > 0 ? Math.round((double) correct / total * 1000) / 10.0 : 0.0;
+	}
+}
@@ -1,16 +1,20 @@
 package A704.DODREAM.quiz.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
+import A704.DODREAM.global.client.AiOperation;
+import A704.DODREAM.global.client.AiServiceClient;
 import A704.DODREAM.global.exception.CustomException;
 import A704.DODREAM.global.exception.constant.ErrorCode;
 import A704.DODREAM.material.entity.Material;
@@ -20,10 +24,12 @@ import A704.DODREAM.quiz.dto.QuizDto;
 import A704.DODREAM.quiz.dto.QuizSaveDto;
 import A704.DODREAM.quiz.dto.QuizSubmissionDto;
 import A704.DODREAM.quiz.dto.StudentMaterialStatsDto;
+import A704.DODREAM.quiz.dto.StudentMaterialStatsRow;
 import A704.DODREAM.quiz.dto.StudentOverallStatsDto;
 import A704.DODREAM.quiz.entity.Quiz;
 import A704.DODREAM.quiz.entity.StudentQuizLog;
 import A704.DODREAM.quiz.repository.QuizRepository;
+import A704.DODREAM.quiz.repository.StudentQuizLatestRepository;
 import A704.DODREAM.quiz.repository.StudentQuizLogRepository;
 import A704.DODREAM.user.entity.User;
 import A704.DODREAM.user.repository.UserRepository;
@@ -37,12 +43,14 @@ public class QuizService {
 
 	private final QuizRepository quizRepository;
 	private final StudentQuizLogRepository studentQuizLogRepository;
+	private final StudentQuizLatestRepository studentQuizLatestRepository;
+	private final QuizStatsProjection quizStatsProjection;
+	private final QuizAnalyticsService quizAnalyticsService;
+	private final LocalQuizGrader localQuizGrader;
+	private final GradingResultCache gradingResultCache;
 	private final MaterialRepository materialRepository;
 	private final UserRepository userRepository;
-	private final WebClient webClient;
-
-	@Value("${fastapi.url}")
-	private String fastApiUrl;
+	private final AiServiceClient aiServiceClient;
 
 	/**
 	 * 교사가 검토한 퀴즈 리스트를 최종 저장 (기존 퀴즈 덮어쓰기)
@@ -74,6 +82,9 @@ public class QuizService {
 			.collect(Collectors.toList());
 
 		quizRepository.saveAll(quizzes);
+		quizStatsProjection.replaceQuizzes(materialId, quizzes.size());
+		quizAnalyticsService.invalidateAfterCommit(materialId);
+		gradingResultCache.invalidateMaterial(materialId);
 		log.info("✅ 퀴즈 저장 완료: Material ID {}, 개수 {}", materialId, quizzes.size());
 	}
 
@@ -100,7 +111,85 @@ public class QuizService {
 		Map<Long, Quiz> quizMap = quizzes.stream()
 			.collect(Collectors.toMap(Quiz::getId, q -> q));
 
-		List<Map<String, Object>> questionList = quizzes.stream()
+		// 1. 로컬 채점 (정확히 일치/수치 비교로 확실한 답안) → 같은 답안의 이전 AI 채점 결과 → 나머지만 AI 채점
+		List<GradingResultDto> results = new ArrayList<>();
+		List<QuizSubmissionDto.SingleAnswer> ambiguousAnswers = new ArrayList<>();
+		for (QuizSubmissionDto.SingleAnswer answer : submission.getAnswers()) {
+			Quiz quiz = quizMap.get(answer.getQuizId());
+			GradingResultDto local = quiz == null ? null
+				: localQuizGrader.grade(quiz.getId(), quiz.getCorrectAnswer(), answer.getAnswer())
+				.or(() -> gradingResultCache.get(materialId, quiz.getId(), answer.getAnswer())
+					.map(cached -> GradingResultDto.builder()
+						.quizId(quiz.getId())
+						.studentAnswer(answer.getAnswer())
+						.isCorrect(cached.correct())
+						.aiFeedback(cached.aiFeedback())
+						.build()))
+				.orElse(null);
+			results.add(local);
+			if (local == null) {
+				ambiguousAnswers.add(answer);
+			}
+		}
+
+		// 2. AI 채점 결과를 제출 순서대로 합치기
+		if (!ambiguousAnswers.isEmpty()) {
+			Map<Long, Deque<GradingResultDto>> aiResults = requestAiGrading(quizMap, ambiguousAnswers, studentId, token)
+				.stream()
+				.filter(res -> res.getQuizId() != null)
+				.collect(Collectors.groupingBy(GradingResultDto::getQuizId, Collectors.toCollection(ArrayDeque::new)));
+
+			for (int i = 0; i < results.size(); i++) {
+				if (results.get(i) == null) {
+					QuizSubmissionDto.SingleAnswer answer = submission.getAnswers().get(i);
+					Deque<GradingResultDto> graded = aiResults.get(answer.getQuizId());
+					GradingResultDto result = graded != null ? graded.pollFirst() : null;
+					if (result != null && quizMap.containsKey(answer.getQuizId())) {
+						gradingResultCache.put(materialId, answer.getQuizId(), answer.getAnswer(), result.isCorrect(),
+							result.getAiFeedback());
+					}
+					results.set(i, result);
+				}
+			}
+			results.removeIf(Objects::isNull);
+		}
+		log.info("채점 완료: 로컬/캐시 {}건, AI {}건", submission.getAnswers().size() - ambiguousAnswers.size(),
+			ambiguousAnswers.size());
+
+		List<StudentQuizLog> logs = results.stream().map(res -> {
+			Quiz quiz = quizMap.get(res.getQuizId());
+			return StudentQuizLog.builder()
+				.quiz(quiz)
+				.student(student)
+				.studentAnswer(res.getStudentAnswer())
+				.isCorrect(res.isCorrect())
+				.aiFeedback(res.getAiFeedback())
+				.build();
+		}).collect(Collectors.toList());
+
+		studentQuizLogRepository.saveAll(logs);
+
+		// 통계용 최신 풀이 갱신
+		quizStatsProjection.recordResults(studentId, materialId, results.stream()
+			.filter(res -> quizMap.containsKey(res.getQuizId()))
+			.map(res -> new QuizStatsProjection.Result(res.getQuizId(), res.isCorrect()))
+			.collect(Collectors.toList()), LocalDateTime.now());
+		quizAnalyticsService.invalidateAfterCommit(materialId);
+		log.info("✅ 채점 및 로그 저장 완료: {}건", logs.size());
+
+		return results;
+	}
+
+	/**
+	 * 로컬에서 판단할 수 없는 답안만 FastAPI로 채점
+	 */
+	private List<GradingResultDto> requestAiGrading(Map<Long, Quiz> quizMap,
+		List<QuizSubmissionDto.SingleAnswer> answers, Long studentId, String token) {
+		List<Map<String, Object>> questionList = answers.stream()
+			.map(QuizSubmissionDto.SingleAnswer::getQuizId)
+			.distinct()
+			.map(quizMap::get)
+			.filter(Objects::nonNull)
 			.map(q -> Map.<String, Object>of(
 				"id", q.getId(),
 				"content", q.getContent(),
@@ -108,7 +197,7 @@ public class QuizService {
 			))
 			.collect(Collectors.toList());
 
-		List<Map<String, Object>> studentAnswerList = submission.getAnswers().stream()
+		List<Map<String, Object>> studentAnswerList = answers.stream()
 			.map(ans -> Map.<String, Object>of(
 				"question_id", ans.getQuizId(),
 				"student_answer", ans.getAnswer()
@@ -120,33 +209,13 @@ public class QuizService {
 			"student_answers", studentAnswerList
 		);
 
-		log.info("🤖 FastAPI 채점 요청 중... 학생 ID: {}", studentId);
-		List<GradingResultDto> results = webClient.post()
-			.uri(fastApiUrl + "/rag/quiz/grade-batch")
-			.header("Authorization", token)
-			.bodyValue(fastApiRequest)
-			.retrieve()
-			.bodyToMono(new ParameterizedTypeReference<List<GradingResultDto>>() {})
-			.block();
+		log.info("🤖 FastAPI 채점 요청 중... 학생 ID: {}, {}건", studentId, answers.size());
+		List<GradingResultDto> results = aiServiceClient.postAndWait(AiOperation.GRADE_QUIZ, fastApiRequest, token,
+			new ParameterizedTypeReference<List<GradingResultDto>>() {});
 
 		if (results == null) {
 			throw new RuntimeException("FastAPI 채점 응답이 비어있습니다.");
 		}
-
-		List<StudentQuizLog> logs = results.stream().map(res -> {
-			Quiz quiz = quizMap.get(res.getQuizId());
-			return StudentQuizLog.builder()
-				.quiz(quiz)
-				.student(student)
-				.studentAnswer(res.getStudentAnswer())
-				.isCorrect(res.isCorrect())
-				.aiFeedback(res.getAiFeedback())
-				.build();
-		}).collect(Collectors.toList());
-
-		studentQuizLogRepository.saveAll(logs);
-		log.info("✅ 채점 및 로그 저장 완료: {}건", logs.size());
-
 		return results;
 	}
 
@@ -167,55 +236,20 @@ public class QuizService {
 
 	/**
 	 * [API 1 수정] 특정 학생의 '모든 자료별' 퀴즈 성적 통계 리스트 조회
+	 * 퀴즈별 최신 풀이(student_quiz_latest) 기준, 집계 쿼리 한 번
 	 */
 	@Transactional(readOnly = true)
 	public List<StudentMaterialStatsDto> getStudentStatsByMaterialList(Long studentId) {
-		List<StudentQuizLog> logs = studentQuizLogRepository.findAllByStudentIdWithMaterial(studentId);
-
-		if (logs.isEmpty()) {
-			return new ArrayList<>();
-		}
-
-		Map<Long, List<StudentQuizLog>> logsByMaterial = logs.stream()
-			.collect(Collectors.groupingBy(log -> log.getQuiz().getMaterial().getId()));
-
-		List<StudentMaterialStatsDto> resultList = new ArrayList<>();
-
-		for (Map.Entry<Long, List<StudentQuizLog>> entry : logsByMaterial.entrySet()) {
-			Long materialId = entry.getKey();
-			List<StudentQuizLog> materialLogs = entry.getValue();
-			Material material = materialLogs.get(0).getQuiz().getMaterial();
-			int totalQuizCount = quizRepository.countByMaterialId(materialId);
-
-			if (totalQuizCount > 0) {
-				// [로직 변경] 퀴즈 ID별로 가장 최근(Latest) 로그만 필터링
-				Map<Long, StudentQuizLog> latestLogsByQuiz = materialLogs.stream()
-					.collect(Collectors.toMap(
-						log -> log.getQuiz().getId(), // Key: Quiz ID
-						log -> log,                   // Value: Log 객체
-						// Merge Function: 기존값과 새로운값 중 solvedAt이 더 늦은(큰) 것을 선택
-						(existing, replacement) -> existing.getSolvedAt().isAfter(replacement.getSolvedAt()) ? existing : replacement
-					));
-
-				// 필터링된 최신 로그들 중에서 정답 개수 카운트
-				long correctCount = latestLogsByQuiz.values().stream()
-					.filter(StudentQuizLog::isCorrect)
-					.count();
-
-				double correctRate = (double) correctCount / totalQuizCount * 100.0;
-
-				resultList.add(StudentMaterialStatsDto.builder()
-					.materialId(materialId)
-					.materialTitle(material.getTitle())
-					.correctCount((int) correctCount)
-					.tryCount(materialLogs.size()) // 시도 횟수는 전체 로그 수 그대로 유지 (노력 지표)
-					.totalQuizCount(totalQuizCount)
-					.correctRate(Math.round(correctRate * 10) / 10.0)
-					.build());
-			}
-		}
-
-		return resultList;
+		return studentQuizLatestRepository.findMaterialStatsByStudentId(studentId).stream()
+			.map(row -> StudentMaterialStatsDto.builder()
+				.materialId(row.getMaterialId())
+				.materialTitle(row.getMaterialTitle())
+				.correctCount(row.getCorrectCount().intValue())
+				.tryCount(row.getTryCount().intValue()) // 시도 횟수는 전체 로그 수 그대로 유지 (노력 지표)
+				.totalQuizCount(row.getTotalQuizCount())
+				.correctRate(Math.round(correctRate(row) * 10) / 10.0)
+				.build())
+			.collect(Collectors.toList());
 	}
 
 	/**
@@ -224,51 +258,21 @@ public class QuizService {
 	 */
 	@Transactional(readOnly = true)
 	public StudentOverallStatsDto getStudentOverallStats(Long studentId) {
-		List<StudentQuizLog> logs = studentQuizLogRepository.findAllByStudentIdWithMaterial(studentId);
-
-		if (logs.isEmpty()) {
-			return StudentOverallStatsDto.builder()
-				.studentId(studentId)
-				.solvedMaterialCount(0)
-				.averageCorrectRate(0.0)
-				.build();
-		}
-
-		Map<Long, List<StudentQuizLog>> logsByMaterial = logs.stream()
-			.collect(Collectors.groupingBy(log -> log.getQuiz().getMaterial().getId()));
-
-		double sumOfRates = 0.0;
-		int materialCount = 0;
+		List<StudentMaterialStatsRow> rows = studentQuizLatestRepository.findMaterialStatsByStudentId(studentId);
 
-		for (Long materialId : logsByMaterial.keySet()) {
-			int totalQuizInMaterial = quizRepository.countByMaterialId(materialId);
-
-			if (totalQuizInMaterial > 0) {
-				List<StudentQuizLog> materialLogs = logsByMaterial.get(materialId);
-
-				// [로직 변경] 퀴즈 ID별로 가장 최근 로그만 필터링
-				long correctCount = materialLogs.stream()
-					.collect(Collectors.toMap(
-						log -> log.getQuiz().getId(),
-						log -> log,
-						(existing, replacement) -> existing.getSolvedAt().isAfter(replacement.getSolvedAt()) ? existing : replacement
-					))
-					.values().stream()
-					.filter(StudentQuizLog::isCorrect)
-					.count();
-
-				double materialRate = (double) correctCount / totalQuizInMaterial * 100.0;
-				sumOfRates += materialRate;
-				materialCount++;
-			}
-		}
-
-		double averageRate = materialCount > 0 ? sumOfRates / materialCount : 0.0;
+		double averageRate = rows.stream()
+			.mapToDouble(this::correctRate)
+			.average()
+			.orElse(0.0);
 
 		return StudentOverallStatsDto.builder()
 			.studentId(studentId)
-			.solvedMaterialCount(materialCount)
+			.solvedMaterialCount(rows.size())
 			.averageCorrectRate(Math.round(averageRate * 10) / 10.0)
 			.build();
 	}
-}
\ No newline at end of file
+
+	private double correctRate(StudentMaterialStatsRow row) {
+		return (double) row.getCorrectCount() / row.getTotalQuizCount() * 100.0;
+	}
+}
@@ -0,0 +1,116 @@
+package A704.DODREAM.quiz.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 퀴즈 통계 프로젝션 갱신
+ * <p>
+ * student_quiz_latest   (학생, 퀴즈)별 최신 정답 여부 + 시도 횟수 - 채점할 때마다 upsert
+ * material_quiz_counts  자료별 퀴즈 개수 - 퀴즈 저장 시 갱신
+ * <p>
+ * 호출한 쪽의 트랜잭션 안에서 JDBC로 실행되므로 풀이 로그 저장과 함께 커밋/롤백된다.
+ * 프로젝션 도입 전 데이터는 애플리케이션 시작 시 풀이 로그/퀴즈 테이블에서 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizStatsProjection {
+
+	private static final String UPSERT_LATEST_SQL =
+		"INSERT INTO student_quiz_latest (student_id, quiz_id, material_id, is_correct, try_count, solved_at) " +
+			"VALUES (?, ?, ?, ?, 1, ?) " +
+			"ON DUPLICATE KEY UPDATE " +
+			"is_correct = VALUES(is_correct), " +
+			"try_count = try_count + 1, " +
+			"material_id = VALUES(material_id), " +
+			"solved_at = VALUES(solved_at)";
+
+	private static final String UPSERT_QUIZ_COUNT_SQL =
+		"INSERT INTO material_quiz_counts (material_id, quiz_count) VALUES (?, ?) " +
+			"ON DUPLICATE KEY UPDATE quiz_count = VALUES(quiz_count)";
+
+	private static final String BACKFILL_QUIZ_COUNTS_SQL =
+		"INSERT IGNORE INTO material_quiz_counts (material_id, quiz_count) " +
+			"SELECT material_id, COUNT(*) FROM quizzes GROUP BY material_id";
+
+	private static final String BACKFILL_LATEST_SQL =
+		"INSERT IGNORE INTO student_quiz_latest (student_id, quiz_id, material_id, is_correct, try_count, solved_at) " +
+			"SELECT t.student_id, t.quiz_id, t.material_id, t.is_correct, t.try_count, t.solved_at FROM (" +
+			"  SELECT l.student_id, l.quiz_id, q.material_id, l.is_correct, l.solved_at, " +
+			"    COUNT(*) OVER (PARTITION BY l.student_id, l.quiz_id) AS try_count, " +
+			"    ROW_NUMBER() OVER (PARTITION BY l.student_id, l.quiz_id ORDER BY l.solved_at DESC, l.id DESC) AS rn " +
+			"  FROM student_quiz_logs l JOIN quizzes q ON q.id = l.quiz_id" +
+			") t WHERE t.rn = 1";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${quiz.stats.backfill-on-startup:true}")
+	private boolean backfillOnStartup;
+
+	/**
+	 * 채점 결과를 최신 풀이로 반영
+	 */
+	public void recordResults(Long studentId, Long materialId, List<Result> results, LocalDateTime solvedAt) {
+		if (results.isEmpty()) {
+			return;
+		}
+
+		Timestamp timestamp = Timestamp.valueOf(solvedAt);
+		jdbcTemplate.batchUpdate(UPSERT_LATEST_SQL, results, results.size(), (ps, result) -> {
+			ps.setLong(1, studentId);
+			ps.setLong(2, result.quizId());
+			ps.setLong(3, materialId);
+			ps.setBoolean(4, result.correct());
+			ps.setTimestamp(5, timestamp);
+		});
+	}
+
+	/**
+	 * 자료의 퀴즈를 새로 저장한 경우: 퀴즈 개수 갱신 + 이전 퀴즈의 최신 풀이 제거
+	 */
+	public void replaceQuizzes(Long materialId, int quizCount) {
+		jdbcTemplate.update("DELETE FROM student_quiz_latest WHERE material_id = ?", materialId);
+		jdbcTemplate.update(UPSERT_QUIZ_COUNT_SQL, materialId, quizCount);
+	}
+
+	/**
+	 * 프로젝션 도입 전 데이터 채우기
+	 * 퀴즈 개수는 없는 자료만 추가하고, 최신 풀이는 테이블이 비어 있을 때만 풀이 로그에서 한 번 만든다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		if (!backfillOnStartup) {
+			return;
+		}
+
+		try {
+			int counts = jdbcTemplate.update(BACKFILL_QUIZ_COUNTS_SQL);
+
+			boolean empty = jdbcTemplate.queryForList("SELECT 1 FROM student_quiz_latest LIMIT 1").isEmpty();
+			int latest = empty ? jdbcTemplate.update(BACKFILL_LATEST_SQL) : 0;
+
+			if (counts > 0 || latest > 0) {
+				log.info("퀴즈 통계 프로젝션 채움: material_quiz_counts={}, student_quiz_latest={}", counts, latest);
+			}
+		} catch (Exception e) {
+			log.error("퀴즈 통계 프로젝션 채우기 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 퀴즈 하나의 채점 결과
+	 */
+	public record Result(Long quizId, boolean correct) {
+	}
+}
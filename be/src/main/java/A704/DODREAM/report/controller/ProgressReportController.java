@@ -3,6 +3,8 @@ package A704.DODREAM.report.controller;
 import A704.DODREAM.auth.dto.request.UserPrincipal;
 import A704.DODREAM.global.response.ApiResponse;
 import A704.DODREAM.report.dto.AverageProgressResponse;
+import A704.DODREAM.report.dto.ClassroomProgressReportResponse;
+import A704.DODREAM.report.dto.ClassroomProgressResponse;
 import A704.DODREAM.report.dto.ProgressReportResponse;
 import A704.DODREAM.report.dto.UpdateProgressRequest;
 import A704.DODREAM.report.dto.UpdateProgressResponse;
@@ -118,6 +120,51 @@ public class ProgressReportController {
         );
     }
 
+    @Operation(
+            summary = "반 단위 교재별 진행률 집계 조회 (선생님/웹)",
+            description = "선생님이 담당하는 반의 교재별 진행률 집계를 조회합니다.\n" +
+                    "- 평균/중앙값 진행률 (학습을 시작한 학생 기준)\n" +
+                    "- 공유받은 학생 수, 학습을 시작한 학생 수, 아직 시작하지 않은 학생 수, 완료한 학생 수\n" +
+                    "- 평균보다 많이 뒤처진 학생 목록"
+    )
+    @GetMapping("/classes/{classId}")
+    public ResponseEntity<ApiResponse<ClassroomProgressResponse>> getClassroomProgress(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long classId
+    ) {
+        Long teacherId = userPrincipal.userId();
+        log.info("반 진행률 집계 조회 요청: teacherId={}, classId={}", teacherId, classId);
+
+        ClassroomProgressResponse response = progressReportService.getClassroomProgress(classId, teacherId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("반 진행률 집계 조회 성공", HttpStatus.OK, response)
+        );
+    }
+
+    @Operation(
+            summary = "반 전체 학생의 교재별 진행률 조회 (선생님/웹)",
+            description = "선생님이 담당하는 반의 모든 학생에 대해 공유된 교재별 진행률을 한 번에 조회합니다."
+    )
+    @GetMapping("/classes/{classId}/reports")
+    public ResponseEntity<ApiResponse<ClassroomProgressReportResponse>> getClassroomProgressReports(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long classId
+    ) {
+        Long teacherId = userPrincipal.userId();
+        log.info("반 진행률 조회 요청: teacherId={}, classId={}", teacherId, classId);
+
+        ClassroomProgressReportResponse response =
+                progressReportService.getClassroomProgressReports(classId, teacherId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("%d명 학생의 진행률 조회 성공", response.getTotalStudents()),
+                        HttpStatus.OK,
+                        response)
+        );
+    }
+
     @Operation(
             summary = "학습 진행률 업데이트 (학생/앱)",
             description = "학생이 학습을 진행하면서 현재 위치를 업데이트합니다.\n" +
@@ -134,12 +181,18 @@ public class ProgressReportController {
         log.info("진행률 업데이트 요청: studentId={}, materialId={}, currentPage={}", 
                 studentId, request.getMaterialId(), request.getCurrentPage());
 
-        UpdateProgressResponse response = progressReportService.updateProgress(
-                studentId,
-                request.getMaterialId(),
-                request.getCurrentPage(),
-                request.getTotalPages()
-        );
+        // write-behind가 켜져 있으면 버퍼에만 반영 (DB 저장은 주기적으로 배치 처리)
+        UpdateProgressResponse response = progressReportService.isWriteBehindEnabled()
+                ? progressReportService.recordProgress(
+                        studentId,
+                        request.getMaterialId(),
+                        request.getCurrentPage(),
+                        request.getTotalPages())
+                : progressReportService.updateProgress(
+                        studentId,
+                        request.getMaterialId(),
+                        request.getCurrentPage(),
+                        request.getTotalPages());
         
         return ResponseEntity.ok(
                 ApiResponse.success(response.getMessage(), HttpStatus.OK, response)
@@ -0,0 +1,46 @@
+package A704.DODREAM.report.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 반 전체 학생의 교재별 진행률 리포트 응답
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClassroomProgressReportResponse {
+
+    /** 반 ID */
+    private Long classroomId;
+
+    /** 학생 수 */
+    private int totalStudents;
+
+    /** 학생별 진행률 리포트 */
+    private List<StudentReports> students;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StudentReports {
+
+        /** 학생 ID */
+        private Long studentId;
+
+        /** 학생 이름 */
+        private String studentName;
+
+        /** 학번 */
+        private String studentNumber;
+
+        /** 공유받은 교재별 진행률 */
+        private List<ProgressReportResponse> reports;
+    }
+}
@@ -0,0 +1,74 @@
+package A704.DODREAM.report.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 반 단위 교재별 진행률 집계 응답 (선생님 대시보드)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClassroomProgressResponse {
+
+    /** 반 ID */
+    private Long classroomId;
+
+    /** 교재별 집계 */
+    private List<MaterialProgressSummary> materials;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class MaterialProgressSummary {
+
+        /** 교재 ID */
+        private Long materialId;
+
+        /** 교재 제목 */
+        private String materialTitle;
+
+        /** 교재를 공유받은 반 학생 수 */
+        private int sharedStudents;
+
+        /** 학습을 시작한 학생 수 */
+        private int startedStudents;
+
+        /** 공유받았지만 아직 시작하지 않은 학생 수 (평균/중앙값/뒤처진 학생에는 포함되지 않음) */
+        private int notStartedStudents;
+
+        /** 완료한 학생 수 */
+        private int completedStudents;
+
+        /** 평균 진행률 (%, 시작한 학생 기준) */
+        private double averageProgressPercentage;
+
+        /** 진행률 중앙값 (%, 시작한 학생 기준) */
+        private double medianProgressPercentage;
+
+        /** 평균보다 많이 뒤처진 학생 (시작한 학생 중 진행률 낮은 순) */
+        private List<BehindStudent> behindStudents;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BehindStudent {
+
+        /** 학생 ID */
+        private Long studentId;
+
+        /** 학생 이름 */
+        private String studentName;
+
+        /** 진행률 (%) */
+        private double progressPercentage;
+    }
+}
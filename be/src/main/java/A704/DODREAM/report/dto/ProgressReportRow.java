@@ -0,0 +1,31 @@
+package A704.DODREAM.report.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공유 교재 + 진행 상태 조인 결과 (한 행 = 학생 1명 x 교재 1개)
+ * 진행 기록이 없으면 currentPage, totalPages 등은 null
+ */
+@Getter
+@AllArgsConstructor
+public class ProgressReportRow {
+
+    private Long studentId;
+
+    private String studentName;
+
+    private Long materialId;
+
+    private String materialTitle;
+
+    private Integer currentPage;
+
+    private Integer totalPages;
+
+    private LocalDateTime lastAccessedAt;
+
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,16 @@
+package A704.DODREAM.report.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 교재별 공유받은 학생 수 집계 결과 (반 진행률 집계용)
+ */
+@Getter
+@AllArgsConstructor
+public class SharedStudentCountRow {
+
+    private Long materialId;
+
+    private Long sharedStudents;
+}
@@ -1,9 +1,14 @@
 package A704.DODREAM.report.repository;
 
 import A704.DODREAM.progress.entity.StudentMaterialProgress;
+import A704.DODREAM.report.dto.ProgressReportRow;
+import A704.DODREAM.report.dto.SharedStudentCountRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +29,30 @@ public interface StudentMaterialProgressRepository extends JpaRepository<Student
      * 특정 교재의 모든 학생 진행 상태 조회
      */
     List<StudentMaterialProgress> findByMaterialId(Long materialId);
-}
 
+    /**
+     * 여러 학생의 공유 교재 + 진행 상태를 한 번에 조회 (리포트용)
+     * 진행 기록이 없는 교재도 포함 (LEFT JOIN)
+     */
+    @Query("SELECT new A704.DODREAM.report.dto.ProgressReportRow(" +
+            "s.id, s.name, m.id, m.title, p.currentPage, p.totalPages, p.lastAccessedAt, p.completedAt) " +
+            "FROM MaterialShare ms " +
+            "JOIN ms.student s " +
+            "JOIN ms.material m " +
+            "LEFT JOIN StudentMaterialProgress p ON p.student.id = s.id AND p.material.id = m.id " +
+            "WHERE s.id IN :studentIds " +
+            "AND m.deletedAt IS NULL " +
+            "ORDER BY s.id, ms.sharedAt DESC")
+    List<ProgressReportRow> findReportRowsByStudentIds(@Param("studentIds") Collection<Long> studentIds);
 
+    /**
+     * 여러 학생에게 공유된 교재별 학생 수 (반 진행률 집계용, 진행 기록 유무와 무관)
+     */
+    @Query("SELECT new A704.DODREAM.report.dto.SharedStudentCountRow(m.id, COUNT(ms)) " +
+            "FROM MaterialShare ms " +
+            "JOIN ms.material m " +
+            "WHERE ms.student.id IN :studentIds " +
+            "AND m.deletedAt IS NULL " +
+            "GROUP BY m.id")
+    List<SharedStudentCountRow> countSharedStudentsByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+}
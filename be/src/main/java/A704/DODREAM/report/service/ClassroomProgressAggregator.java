@@ -0,0 +1,398 @@
+package A704.DODREAM.report.service;
+
+import A704.DODREAM.material.entity.Material;
+import A704.DODREAM.material.repository.MaterialRepository;
+import A704.DODREAM.report.dto.ClassroomProgressResponse;
+import A704.DODREAM.report.dto.ProgressReportRow;
+import A704.DODREAM.report.dto.SharedStudentCountRow;
+import A704.DODREAM.report.repository.StudentMaterialProgressRepository;
+import A704.DODREAM.user.repository.StudentProfileRepository;
+import A704.DODREAM.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 반 x 교재 단위 진행률 집계 (Redis)
+ * <p>
+ * 학생 진행률이 바뀔 때마다 증분 갱신하고, 대시보드 조회는 학생 수와 관계없이 집계값만 읽는다.
+ * <pre>
+ * progress:class:{classId}:materials                      집계가 있는 교재 ID (Set)
+ * progress:class:{classId}:material:{materialId}:stats    sum(진행률 합), completed(완료 학생 수) (Hash)
+ * progress:class:{classId}:material:{materialId}:scores   학생 ID → 진행률 (Sorted Set, 중앙값/뒤처진 학생 조회)
+ * progress:class:{classId}:built                          DB에서 집계를 만든 적 있음 (없으면 조회 시 재생성)
+ * progress:class:{classId}:reconciled                     반 명단과 맞춰 본 시각 (reconcile-minutes 동안 유지)
+ * </pre>
+ * 갱신은 학생의 이전 점수를 기준으로 차이만 반영하므로 같은 값을 여러 번 기록해도 결과가 같다.
+ * built 표시가 없는 반은 조회 시 DB에서 다시 만든다. 이때 이미 Redis에 있는 학생 점수는 더 최신이므로 유지한다.
+ * 반을 떠난 학생의 점수는 조회 시 반 명단과 비교해 제거한다 (reconcile-minutes마다 한 번).
+ * 공유받았지만 아직 시작하지 않은 학생은 점수가 없으므로 조회 시 DB의 교재별 공유 학생 수에서 시작한 학생 수를 빼서 센다.
+ */
+@Slf4j
+@Service
+public class ClassroomProgressAggregator {
+
+    private static final DefaultRedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "local old = redis.call('ZSCORE', KEYS[2], ARGV[1]) " +
+            "local new = tonumber(ARGV[2]) " +
+            "redis.call('ZADD', KEYS[2], new, ARGV[1]) " +
+            "if old then " +
+            "  old = tonumber(old) " +
+            "  redis.call('HINCRBYFLOAT', KEYS[1], 'sum', new - old) " +
+            "  if old >= 100 and new < 100 then redis.call('HINCRBY', KEYS[1], 'completed', -1) end " +
+            "  if old < 100 and new >= 100 then redis.call('HINCRBY', KEYS[1], 'completed', 1) end " +
+            "else " +
+            "  redis.call('HINCRBYFLOAT', KEYS[1], 'sum', new) " +
+            "  if new >= 100 then redis.call('HINCRBY', KEYS[1], 'completed', 1) end " +
+            "end " +
+            "redis.call('SADD', KEYS[3], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    /** 재생성용: 이미 점수가 있는 학생은 건너뜀 */
+    private static final DefaultRedisScript<Long> RECORD_IF_ABSENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZSCORE', KEYS[2], ARGV[1]) then return 0 end " +
+            "local new = tonumber(ARGV[2]) " +
+            "redis.call('ZADD', KEYS[2], new, ARGV[1]) " +
+            "redis.call('HINCRBYFLOAT', KEYS[1], 'sum', new) " +
+            "if new >= 100 then redis.call('HINCRBY', KEYS[1], 'completed', 1) end " +
+            "redis.call('SADD', KEYS[3], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    /** 학생 점수 제거 (마지막 학생이면 교재 집계 자체를 삭제) */
+    private static final DefaultRedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            "local old = redis.call('ZSCORE', KEYS[2], ARGV[1]) " +
+            "if not old then return 0 end " +
+            "old = tonumber(old) " +
+            "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+            "if redis.call('ZCARD', KEYS[2]) == 0 then " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "  redis.call('SREM', KEYS[3], ARGV[2]) " +
+            "else " +
+            "  redis.call('HINCRBYFLOAT', KEYS[1], 'sum', -old) " +
+            "  if old >= 100 then redis.call('HINCRBY', KEYS[1], 'completed', -1) end " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redis;
+    private final StudentProfileRepository studentProfileRepository;
+    private final StudentMaterialProgressRepository progressRepository;
+    private final MaterialRepository materialRepository;
+    private final UserRepository userRepository;
+    private final double behindGap;
+    private final int behindLimit;
+    private final Duration reconcileInterval;
+    /** 학생 ID → 반 ID (진행률 업데이트마다 프로필을 조회하지 않도록) */
+    private final Cache<Long, Optional<Long>> classroomIds = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public ClassroomProgressAggregator(
+            StringRedisTemplate redis,
+            StudentProfileRepository studentProfileRepository,
+            StudentMaterialProgressRepository progressRepository,
+            MaterialRepository materialRepository,
+            UserRepository userRepository,
+            @Value("${progress.aggregate.behind-gap:20}") double behindGap,
+            @Value("${progress.aggregate.behind-limit:10}") int behindLimit,
+            @Value("${progress.aggregate.reconcile-minutes:10}") long reconcileMinutes) {
+        this.redis = redis;
+        this.studentProfileRepository = studentProfileRepository;
+        this.progressRepository = progressRepository;
+        this.materialRepository = materialRepository;
+        this.userRepository = userRepository;
+        this.behindGap = behindGap;
+        this.behindLimit = behindLimit;
+        this.reconcileInterval = Duration.ofMinutes(Math.max(1, reconcileMinutes));
+    }
+
+    /**
+     * 학생 진행률 변경 반영 (트랜잭션 안이면 커밋 후 반영)
+     * 집계 실패가 진행률 저장을 실패하게 하면 안 되므로 로그만 남긴다.
+     */
+    public void recordAfterCommit(Long studentId, Long materialId, double percentage) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(studentId, materialId, percentage);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(studentId, materialId, percentage);
+            }
+        });
+    }
+
+    private void record(Long studentId, Long materialId, double percentage) {
+        try {
+            classroomIds.get(studentId, studentProfileRepository::findClassroomIdByUserId)
+                    .ifPresent(classId -> record(classId, studentId, materialId, percentage));
+        } catch (Exception e) {
+            log.warn("반 진행률 집계 갱신 실패: studentId={}, materialId={}: {}", studentId, materialId, e.getMessage());
+        }
+    }
+
+    private void record(Long classId, Long studentId, Long materialId, double percentage) {
+        redis.execute(RECORD_SCRIPT,
+                List.of(statsKey(classId, materialId), scoresKey(classId, materialId), materialsKey(classId)),
+                studentId.toString(), Double.toString(Math.min(100.0, percentage)), materialId.toString());
+    }
+
+    /**
+     * 반의 교재별 진행률 집계 조회
+     * 학생 수와 관계없이 교재마다 Redis 조회 몇 번 + 반 명단/공유 학생 수/이름/제목 조회 쿼리 4번
+     */
+    public ClassroomProgressResponse getClassroomProgress(Long classId) {
+        List<Long> studentIds = studentProfileRepository.findUserIdsByClassroomId(classId);
+        if (!Boolean.TRUE.equals(redis.hasKey(builtKey(classId)))) {
+            rebuild(classId, studentIds);
+        } else if (!Boolean.TRUE.equals(redis.hasKey(reconciledKey(classId)))) {
+            reconcile(classId, studentIds);
+        }
+
+        // 교재별 공유 학생 수 (아직 아무도 시작하지 않은 교재도 포함)
+        Map<Long, Integer> sharedCounts = new HashMap<>();
+        if (!studentIds.isEmpty()) {
+            for (SharedStudentCountRow row : progressRepository.countSharedStudentsByStudentIds(studentIds)) {
+                sharedCounts.put(row.getMaterialId(), row.getSharedStudents().intValue());
+            }
+        }
+
+        Set<String> materialIds = redis.opsForSet().members(materialsKey(classId));
+        Set<Long> statsMaterialIds = new HashSet<>(sharedCounts.keySet());
+        if (materialIds != null) {
+            materialIds.forEach(materialId -> statsMaterialIds.add(Long.valueOf(materialId)));
+        }
+        if (statsMaterialIds.isEmpty()) {
+            return ClassroomProgressResponse.builder()
+                    .classroomId(classId)
+                    .materials(List.of())
+                    .build();
+        }
+
+        List<MaterialStats> statsList = new ArrayList<>();
+        Set<Long> behindStudentIds = new HashSet<>();
+        for (Long materialId : statsMaterialIds) {
+            MaterialStats stats = materialIds != null && materialIds.contains(materialId.toString())
+                    ? readStats(classId, materialId)
+                    : MaterialStats.empty(materialId);
+            statsList.add(stats);
+            stats.behind().keySet().forEach(behindStudentIds::add);
+        }
+
+        Map<Long, String> titles = materialRepository.findAllById(
+                        statsList.stream().map(MaterialStats::materialId).toList()).stream()
+                .filter(material -> material.getDeletedAt() == null)
+                .collect(Collectors.toMap(Material::getId, Material::getTitle));
+        Map<Long, String> names = new HashMap<>();
+        if (!behindStudentIds.isEmpty()) {
+            userRepository.findAllById(behindStudentIds).forEach(user -> names.put(user.getId(), user.getName()));
+        }
+
+        List<ClassroomProgressResponse.MaterialProgressSummary> materials = statsList.stream()
+                .filter(stats -> titles.containsKey(stats.materialId())) // 삭제된 교재 제외
+                .sorted(Comparator.comparing(MaterialStats::materialId).reversed())
+                .map(stats -> toSummary(stats, titles.get(stats.materialId()),
+                        sharedCounts.getOrDefault(stats.materialId(), 0), names))
+                .toList();
+
+        return ClassroomProgressResponse.builder()
+                .classroomId(classId)
+                .materials(materials)
+                .build();
+    }
+
+    private ClassroomProgressResponse.MaterialProgressSummary toSummary(MaterialStats stats, String title,
+                                                                        int sharedCount, Map<Long, String> names) {
+        // 쓰기 지연 등으로 공유 학생 수보다 시작한 학생 수가 많게 읽혀도 음수가 되지 않도록
+        int sharedStudents = Math.max(sharedCount, stats.count());
+        return ClassroomProgressResponse.MaterialProgressSummary.builder()
+                .materialId(stats.materialId())
+                .materialTitle(title)
+                .sharedStudents(sharedStudents)
+                .startedStudents(stats.count())
+                .notStartedStudents(sharedStudents - stats.count())
+                .completedStudents(stats.completed())
+                .averageProgressPercentage(round(stats.average()))
+                .medianProgressPercentage(round(stats.median()))
+                .behindStudents(stats.behind().entrySet().stream()
+                        .map(entry -> ClassroomProgressResponse.BehindStudent.builder()
+                                .studentId(entry.getKey())
+                                .studentName(names.get(entry.getKey()))
+                                .progressPercentage(round(entry.getValue()))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * DB의 진행 기록으로 반 집계 다시 만들기
+     * Redis에 이미 있는 학생 점수(배포 후 갱신된 값)는 유지하고, 없는 학생/교재만 DB 값으로 채운다.
+     */
+    public void rebuild(Long classId) {
+        rebuild(classId, studentProfileRepository.findUserIdsByClassroomId(classId));
+    }
+
+    private void rebuild(Long classId, List<Long> studentIds) {
+        int recorded = 0;
+        if (!studentIds.isEmpty()) {
+            for (ProgressReportRow row : progressRepository.findReportRowsByStudentIds(studentIds)) {
+                if (row.getCurrentPage() == null) {
+                    continue; // 아직 시작하지 않은 교재
+                }
+                Long added = redis.execute(RECORD_IF_ABSENT_SCRIPT,
+                        List.of(statsKey(classId, row.getMaterialId()), scoresKey(classId, row.getMaterialId()),
+                                materialsKey(classId)),
+                        row.getStudentId().toString(),
+                        Double.toString(Math.min(100.0, percentage(row.getCurrentPage(), row.getTotalPages()))),
+                        row.getMaterialId().toString());
+                if (added != null && added > 0) {
+                    recorded++;
+                }
+            }
+        }
+
+        reconcile(classId, studentIds);
+        redis.opsForValue().set(builtKey(classId), LocalDateTime.now().toString());
+
+        log.info("반 진행률 집계 재생성: classId={}, students={}, records={}", classId, studentIds.size(), recorded);
+    }
+
+    /**
+     * 반을 떠난 학생의 점수 제거
+     */
+    private void reconcile(Long classId, List<Long> studentIds) {
+        Set<String> members = studentIds.stream().map(String::valueOf).collect(Collectors.toSet());
+        Set<String> materialIds = redis.opsForSet().members(materialsKey(classId));
+
+        int removed = 0;
+        if (materialIds != null) {
+            for (String materialId : materialIds) {
+                Long id = Long.valueOf(materialId);
+                Set<String> scored = redis.opsForZSet().range(scoresKey(classId, id), 0, -1);
+                if (scored == null) {
+                    continue;
+                }
+                for (String studentId : scored) {
+                    if (!members.contains(studentId)) {
+                        redis.execute(REMOVE_SCRIPT,
+                                List.of(statsKey(classId, id), scoresKey(classId, id), materialsKey(classId)),
+                                studentId, materialId);
+                        // 반이 바뀐 학생은 새 반으로 집계되도록 캐시 제거
+                        classroomIds.invalidate(Long.valueOf(studentId));
+                        removed++;
+                    }
+                }
+            }
+        }
+
+        redis.opsForValue().set(reconciledKey(classId), LocalDateTime.now().toString(), reconcileInterval);
+        if (removed > 0) {
+            log.info("반 진행률 집계에서 반을 떠난 학생 제거: classId={}, records={}", classId, removed);
+        }
+    }
+
+    private MaterialStats readStats(Long classId, Long materialId) {
+        String scoresKey = scoresKey(classId, materialId);
+        Map<Object, Object> hash = redis.opsForHash().entries(statsKey(classId, materialId));
+        Long size = redis.opsForZSet().zCard(scoresKey);
+        int count = size != null ? size.intValue() : 0;
+
+        double sum = parseDouble(hash.get("sum"));
+        int completed = (int) parseDouble(hash.get("completed"));
+        double average = count > 0 ? sum / count : 0.0;
+
+        // 중앙값: 가운데 1~2명의 점수
+        double median = 0.0;
+        if (count > 0) {
+            Set<ZSetOperations.TypedTuple<String>> middle =
+                    redis.opsForZSet().rangeWithScores(scoresKey, (count - 1) / 2, count / 2);
+            if (middle != null && !middle.isEmpty()) {
+                median = middle.stream().mapToDouble(tuple -> tuple.getScore()).average().orElse(0.0);
+            }
+        }
+
+        // 평균보다 behindGap 이상 낮은 학생 (낮은 순)
+        Map<Long, Double> behind = new LinkedHashMap<>();
+        double threshold = average - behindGap;
+        if (count > 0 && threshold > 0) {
+            Set<ZSetOperations.TypedTuple<String>> tuples =
+                    redis.opsForZSet().rangeByScoreWithScores(scoresKey, 0, threshold, 0, behindLimit);
+            if (tuples != null) {
+                tuples.forEach(tuple -> behind.put(Long.valueOf(tuple.getValue()), tuple.getScore()));
+            }
+        }
+
+        return new MaterialStats(materialId, count, completed, average, median, behind);
+    }
+
+    /**
+     * 진행률 (%) - ProgressReportService와 같은 계산
+     */
+    static double percentage(Integer currentPage, Integer totalPages) {
+        int current = currentPage != null ? currentPage : 0;
+        int total = totalPages != null ? totalPages : 1;
+        return total > 0 ? (double) current / total * 100.0 : 0.0;
+    }
+
+    private static double parseDouble(Object value) {
+        return value != null ? Double.parseDouble(value.toString()) : 0.0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    private String materialsKey(Long classId) {
+        return "progress:class:%d:materials".formatted(classId);
+    }
+
+    private String builtKey(Long classId) {
+        return "progress:class:%d:built".formatted(classId);
+    }
+
+    private String reconciledKey(Long classId) {
+        return "progress:class:%d:reconciled".formatted(classId);
+    }
+
+    private String statsKey(Long classId, Long materialId) {
+        return "progress:class:%d:material:%d:stats".formatted(classId, materialId);
+    }
+
+    private String scoresKey(Long classId, Long materialId) {
+        return "progress:class:%d:material:%d:scores".formatted(classId, materialId);
+    }
+
+    private record MaterialStats(Long materialId, int count, int completed, double average, double median,
+                                 Map<Long, Double> behind) {
+
+        /** 아직 아무도 시작하지 않은 교재 */
+        static MaterialStats empty(Long materialId) {
+            return new MaterialStats(materialId, 0, 0, 0.0, 0.0, Map.of());
+        }
+    }
+}
@@ -2,32 +2,42 @@ package A704.DODREAM.report.service;
 
 import A704.DODREAM.global.exception.CustomException;
 import A704.DODREAM.global.exception.constant.ErrorCode;
+import A704.DODREAM.material.document.ChapterHeader;
+import A704.DODREAM.material.document.ChapterIndex;
 import A704.DODREAM.material.entity.Material;
 import A704.DODREAM.material.entity.MaterialShare;
 import A704.DODREAM.material.repository.MaterialRepository;
 import A704.DODREAM.material.repository.MaterialShareRepository;
+import A704.DODREAM.material.service.ChapterIndexService;
 import A704.DODREAM.progress.entity.StudentMaterialProgress;
 import A704.DODREAM.report.dto.AverageProgressResponse;
 import A704.DODREAM.report.dto.ChapterProgressDto;
+import A704.DODREAM.report.dto.ClassroomProgressReportResponse;
+import A704.DODREAM.report.dto.ClassroomProgressResponse;
 import A704.DODREAM.report.dto.ProgressReportResponse;
+import A704.DODREAM.report.dto.ProgressReportRow;
 import A704.DODREAM.report.dto.UpdateProgressResponse;
 import A704.DODREAM.report.repository.StudentMaterialProgressRepository;
+import A704.DODREAM.user.entity.StudentProfile;
+import A704.DODREAM.user.entity.TeacherProfile;
 import A704.DODREAM.user.entity.User;
+import A704.DODREAM.user.repository.ClassroomTeacherRepository;
+import A704.DODREAM.user.repository.StudentProfileRepository;
+import A704.DODREAM.user.repository.TeacherProfileRepository;
 import A704.DODREAM.user.repository.UserRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import software.amazon.awssdk.core.ResponseInputStream;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 학습 진행률 리포트 서비스
@@ -43,11 +53,15 @@ public class ProgressReportService {
     private final MaterialRepository materialRepository;
     private final MaterialShareRepository materialShareRepository;
     private final UserRepository userRepository;
-    private final S3Client s3Client;
-    private final ObjectMapper objectMapper;
+    private final ChapterIndexService chapterIndexService;
+    private final TeacherProfileRepository teacherProfileRepository;
+    private final ClassroomTeacherRepository classroomTeacherRepository;
+    private final StudentProfileRepository studentProfileRepository;
+    private final ClassroomProgressAggregator classroomProgressAggregator;
+    private final ProgressWriteBuffer progressWriteBuffer;
 
-    @Value("${aws.s3.bucket}")
-    private String bucketName;
+    @Value("${progress.write-behind.enabled:true}")
+    private boolean writeBehindEnabled;
 
     /**
      * 특정 학생의 특정 교재에 대한 진행률 리포트 조회
@@ -68,212 +82,127 @@ public class ProgressReportService {
                 .findByStudentIdAndMaterialId(studentId, materialId)
                 .orElse(null);
 
-        // 4. DB 값으로 진행률 계산
-        int currentPage = progress != null && progress.getCurrentPage() != null ? progress.getCurrentPage() : 0;
-        int totalPages = progress != null && progress.getTotalPages() != null ? progress.getTotalPages() : 1;
-        
-        double overallProgress = totalPages > 0
-                ? (double) currentPage / totalPages * 100.0
-                : 0.0;
-        
-        log.info("진행률 조회: currentPage={}/{} = {}%", currentPage, totalPages, overallProgress);
-
-        return ProgressReportResponse.builder()
-                .studentId(student.getId())
-                .studentName(student.getName())
-                .materialId(material.getId())
-                .materialTitle(material.getTitle())
-                .totalChapters(totalPages)  // totalPages = 총 챕터/섹션 수
-                .completedChapters(currentPage >= totalPages ? totalPages : 0)
-                .totalSections(totalPages)
-                .completedSections(currentPage)
-                .overallProgressPercentage(Math.round(overallProgress * 100.0) / 100.0)
-                .currentChapterNumber(currentPage < totalPages ? currentPage + 1 : totalPages)
-                .currentChapterTitle(null)  // 챕터 제목은 앱에서 관리
-                .lastAccessedAt(progress != null ? progress.getLastAccessedAt() : null)
-                .completedAt(progress != null ? progress.getCompletedAt() : null)
-                .chapterProgress(new ArrayList<>())  // 상세 챕터 정보는 제공하지 않음
-                .build();
+        // 4. DB 값 + 발행 시 저장된 챕터 인덱스로 진행률 계산 (JSON 본문은 조회하지 않음)
+        ChapterIndex chapterIndex = chapterIndexService.find(materialId).orElse(null);
+        ProgressReportResponse report = toProgressReport(new ProgressReportRow(
+                student.getId(),
+                student.getName(),
+                material.getId(),
+                material.getTitle(),
+                progress != null ? progress.getCurrentPage() : null,
+                progress != null ? progress.getTotalPages() : null,
+                progress != null ? progress.getLastAccessedAt() : null,
+                progress != null ? progress.getCompletedAt() : null), chapterIndex);
+
+        log.info("진행률 조회: currentPage={}/{} = {}%", report.getCompletedSections(), report.getTotalSections(),
+                report.getOverallProgressPercentage());
+
+        return report;
     }
 
     /**
-     * 특정 학생의 모든 교재에 대한 진행률 요약 조회
+     * 공유 교재 + 진행 상태 조인 결과로 진행률 리포트 생성
+     * 챕터 인덱스는 교재 ID로 한 번에 조회해서 단건 조회(getProgressReport)와 같은 값으로 계산
      */
-    public List<ProgressReportResponse> getAllProgressReports(Long studentId) {
-        // 학생 조회
-        User student = userRepository.findById(studentId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        // 공유받은 모든 교재 조회
-        List<MaterialShare> shares = materialShareRepository.findByStudentId(studentId);
-
-        List<ProgressReportResponse> reports = new ArrayList<>();
-        for (MaterialShare share : shares) {
-            try {
-                ProgressReportResponse report = getProgressReport(studentId, share.getMaterial().getId());
-                reports.add(report);
-            } catch (Exception e) {
-                log.error("진행률 계산 실패: studentId={}, materialId={}",
-                        studentId, share.getMaterial().getId(), e);
-            }
-        }
-
-        return reports;
+    private List<ProgressReportResponse> toProgressReports(List<ProgressReportRow> rows) {
+        Map<Long, ChapterIndex> chapterIndexes = chapterIndexService.findAll(rows.stream()
+                .map(ProgressReportRow::getMaterialId)
+                .collect(Collectors.toSet()));
+
+        return rows.stream()
+                .map(row -> toProgressReport(row, chapterIndexes.get(row.getMaterialId())))
+                .toList();
     }
 
     /**
-     * S3에서 Material JSON 가져오기
+     * 진행률 리포트 생성
+     * 챕터 인덱스가 있으면 챕터별 진행률과 현재 챕터를 함께 계산
      */
-    private Map<String, Object> getMaterialJsonFromS3(Material material) {
-        if (material.getUploadedFile() == null) {
-            log.error("UploadedFile이 null입니다. materialId={}", material.getId());
-            throw new CustomException(ErrorCode.FILE_PARSING_FAILED);
+    private ProgressReportResponse toProgressReport(ProgressReportRow row, ChapterIndex chapterIndex) {
+        // 아직 DB에 저장되지 않은 최신 진행률이 있으면 우선 사용
+        ProgressWriteBuffer.Snapshot buffered = progressWriteBuffer.peek(row.getStudentId(), row.getMaterialId());
+        if (buffered != null) {
+            row = new ProgressReportRow(row.getStudentId(), row.getStudentName(), row.getMaterialId(),
+                    row.getMaterialTitle(), buffered.currentPage(), buffered.totalPages(),
+                    buffered.lastAccessedAt(), buffered.completedAt());
         }
 
-        if (material.getUploadedFile().getJsonS3Key() == null) {
-            log.error("JSON S3 Key가 null입니다. materialId={}, fileId={}",
-                    material.getId(), material.getUploadedFile().getId());
-            throw new CustomException(ErrorCode.FILE_PARSING_FAILED);
-        }
-
-        try {
-            String s3Key = material.getUploadedFile().getJsonS3Key();
-            log.info("S3에서 JSON 조회 시도: bucket={}, key={}", bucketName, s3Key);
-
-            GetObjectRequest getRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .build();
+        int currentPage = row.getCurrentPage() != null ? row.getCurrentPage() : 0;
+        int totalPages = row.getTotalPages() != null ? row.getTotalPages() : 1;
 
-            ResponseInputStream<GetObjectResponse> response = s3Client.getObject(getRequest);
-            String jsonString = new String(response.readAllBytes());
-
-            log.info("S3에서 JSON 조회 성공: materialId={}, size={} bytes",
-                    material.getId(), jsonString.length());
-
-            return objectMapper.readValue(jsonString, Map.class);
-        } catch (Exception e) {
-            log.error("S3에서 JSON 조회 실패: materialId={}, error={}",
-                    material.getId(), e.getMessage(), e);
-            throw new RuntimeException("JSON 조회 실패: " + e.getMessage());
-        }
-    }
+        double overallProgress = totalPages > 0
+                ? (double) currentPage / totalPages * 100.0
+                : 0.0;
 
-    /**
-     * currentPage를 콘텐츠 페이지로 변환 (퀴즈 챕터 제외)
-     * 예: 챕터 1-3(콘텐츠), 4(퀴즈), 5-6(콘텐츠) → currentPage=5 → contentPage=4
-     */
-    private int convertToContentPage(List<Map<String, Object>> chapters, int currentPage) {
-        int quizCountBeforeCurrent = 0;
-
-        // currentPage 이전에 나온 퀴즈 챕터 개수 계산
-        for (int i = 0; i < Math.min(currentPage, chapters.size()); i++) {
-            Map<String, Object> chapter = chapters.get(i);
-
-            // 챕터 타입 확인
-            String chapterType;
-            if (chapter.containsKey("index")) {
-                // 이전 구조
-                List<Map<String, Object>> conceptChecks = (List<Map<String, Object>>) chapter.get("concept_checks");
-                chapterType = (conceptChecks != null && !conceptChecks.isEmpty()) ? "quiz" : "content";
-            } else {
-                // 새로운 구조
-                chapterType = (String) chapter.getOrDefault("type", "content");
-            }
+        ProgressReportResponse.ProgressReportResponseBuilder builder = ProgressReportResponse.builder()
+                .studentId(row.getStudentId())
+                .studentName(row.getStudentName())
+                .materialId(row.getMaterialId())
+                .materialTitle(row.getMaterialTitle())
+                .totalChapters(totalPages)  // totalPages = 총 챕터/섹션 수
+                .completedChapters(currentPage >= totalPages ? totalPages : 0)
+                .totalSections(totalPages)
+                .completedSections(currentPage)
+                .overallProgressPercentage(Math.round(overallProgress * 100.0) / 100.0)
+                .currentChapterNumber(currentPage < totalPages ? currentPage + 1 : totalPages)
+                .currentChapterTitle(null)  // 챕터 인덱스가 없으면 챕터 제목은 앱에서 관리
+                .lastAccessedAt(row.getLastAccessedAt())
+                .completedAt(row.getCompletedAt())
+                .chapterProgress(new ArrayList<>());
 
-            if ("quiz".equals(chapterType)) {
-                quizCountBeforeCurrent++;
-            }
+        if (chapterIndex == null || chapterIndex.isEmpty()) {
+            return builder.build();
         }
 
-        // 전체 페이지에서 퀴즈 개수를 빼서 콘텐츠 페이지 반환
-        int contentPage = currentPage - quizCountBeforeCurrent;
-        log.debug("퀴즈 개수: {}, 전체 페이지: {} → 콘텐츠 페이지: {}",
-                quizCountBeforeCurrent, currentPage, contentPage);
-
-        return Math.max(1, contentPage);
+        // DB에 저장된 currentPage는 이미 콘텐츠 페이지 기준 (퀴즈 제외)
+        // 교재를 완료했으면 앱과 인덱스의 섹션 수가 달라도 모든 챕터를 완료로 표시
+        int contentPage = currentPage > 0 && (row.getCompletedAt() != null || currentPage >= totalPages)
+                ? chapterIndex.getTotalSections() + 1
+                : currentPage;
+
+        List<ChapterProgressDto> chapterProgress = calculateChapterProgress(chapterIndex, contentPage);
+        ChapterHeader currentChapter = chapterIndex.getChapters().get(chapterIndex.locate(Math.max(1, contentPage)));
+
+        return builder
+                .totalChapters((int) chapterProgress.stream().filter(chapter -> !isQuiz(chapter)).count())
+                .completedChapters((int) chapterProgress.stream()
+                        .filter(chapter -> !isQuiz(chapter) && chapter.isCompleted())
+                        .count())
+                .currentChapterNumber(currentChapter.getChapterNumber())
+                .currentChapterTitle(currentChapter.getTitle())
+                .chapterProgress(chapterProgress)
+                .build();
     }
 
     /**
      * 챕터별 진행률 계산
-     * 두 가지 JSON 구조를 모두 지원
+     * 현재 콘텐츠 페이지가 속한 챕터를 누적 오프셋 이진 탐색으로 찾고,
+     * 그 앞의 챕터는 완료, 뒤의 챕터는 미시작으로 처리
      */
-    private List<ChapterProgressDto> calculateChapterProgress(
-            List<Map<String, Object>> chapters,
-            StudentMaterialProgress progress) {
-
-        List<ChapterProgressDto> result = new ArrayList<>();
-        // DB에 저장된 currentPage는 이미 콘텐츠 페이지 기준 (퀴즈 제외)
-        int contentCurrentPage = progress != null ? progress.getCurrentPage() : 1;
-        log.info("콘텐츠 페이지 기준 currentPage: {}", contentCurrentPage);
-
-        int cumulativeSections = 0;
+    private List<ChapterProgressDto> calculateChapterProgress(ChapterIndex chapterIndex, int contentPage) {
+        List<ChapterHeader> chapters = chapterIndex.getChapters();
+        int currentPosition = contentPage > 0 ? chapterIndex.locate(contentPage) : -1;
 
+        List<ChapterProgressDto> result = new ArrayList<>(chapters.size());
         for (int i = 0; i < chapters.size(); i++) {
-            Map<String, Object> chapter = chapters.get(i);
-
-            // 챕터 ID와 제목 추출 (두 가지 구조 지원)
-            String chapterId;
-            String chapterTitle;
-            String chapterType;
-
-            if (chapter.containsKey("index")) {
-                // 이전 구조
-                chapterId = (String) chapter.get("index");
-                chapterTitle = (String) chapter.get("index_title");
-                // concept_checks가 있으면 quiz 타입으로 간주
-                List<Map<String, Object>> conceptChecks = (List<Map<String, Object>>) chapter.get("concept_checks");
-                chapterType = (conceptChecks != null && !conceptChecks.isEmpty()) ? "quiz" : "content";
-            } else {
-                // 새로운 구조
-                chapterId = (String) chapter.get("id");
-                chapterTitle = (String) chapter.get("title");
-                chapterType = (String) chapter.getOrDefault("type", "content");
-            }
+            ChapterHeader chapter = chapters.get(i);
+            // 퀴즈 챕터는 진행률 계산에서 제외 (섹션 수 0)
+            int totalSections = chapter.isQuiz() ? 0 : chapter.getSectionCount();
 
-            // 퀴즈 챕터는 진행률 계산에서 제외
-            if ("quiz".equals(chapterType)) {
-                // 퀴즈 챕터는 섹션 수 0으로 설정하고 cumulativeSections에 포함하지 않음
-                result.add(ChapterProgressDto.builder()
-                        .chapterId(chapterId)
-                        .chapterTitle(chapterTitle)
-                        .chapterType(chapterType)
-                        .chapterNumber(i + 1)
-                        .totalSections(0)
-                        .completedSections(0)
-                        .progressPercentage(0.0)
-                        .isCompleted(false)
-                        .build());
-                continue; // 다음 챕터로
-            }
-
-            // Section 수 계산 (구조에 맞게 자동 판별)
-            int totalSections = calculateSectionsFromChapter(chapter);
-
-            // 현재 진행 상황에 따른 완료된 섹션 계산
             int completedSections;
             boolean isCompleted;
-
-            if (progress == null) {
+            if (chapter.isQuiz() || currentPosition < 0 || i > currentPosition) {
+                // 아직 시작하지 않음
                 completedSections = 0;
                 isCompleted = false;
+            } else if (i < currentPosition) {
+                completedSections = totalSections;
+                isCompleted = true;
             } else {
-                int chapterStartPage = cumulativeSections + 1;
-                int chapterEndPage = cumulativeSections + totalSections;
-
-                if (contentCurrentPage > chapterEndPage) {
-                    // 이 챕터는 완료됨
-                    completedSections = totalSections;
-                    isCompleted = true;
-                } else if (contentCurrentPage >= chapterStartPage) {
-                    // 현재 이 챕터를 학습 중
-                    completedSections = contentCurrentPage - chapterStartPage + 1;
-                    isCompleted = false;
-                } else {
-                    // 아직 시작하지 않음
-                    completedSections = 0;
-                    isCompleted = false;
-                }
+                // 현재 이 챕터를 학습 중 (전체 섹션 수를 넘으면 마지막 챕터까지 완료)
+                int pageInChapter = contentPage - chapterIndex.offsetOf(i);
+                completedSections = Math.min(pageInChapter, totalSections);
+                isCompleted = pageInChapter > totalSections;
             }
 
             double progressPercentage = totalSections > 0
@@ -281,127 +210,93 @@ public class ProgressReportService {
                     : 0.0;
 
             result.add(ChapterProgressDto.builder()
-                    .chapterId(chapterId)
-                    .chapterTitle(chapterTitle)
-                    .chapterType(chapterType)
-                    .chapterNumber(i + 1)
+                    .chapterId(chapter.getId())
+                    .chapterTitle(chapter.getTitle())
+                    .chapterType(chapter.getType())
+                    .chapterNumber(chapter.getChapterNumber())
                     .totalSections(totalSections)
                     .completedSections(completedSections)
                     .progressPercentage(Math.round(progressPercentage * 100.0) / 100.0)
                     .isCompleted(isCompleted)
                     .build());
-
-            cumulativeSections += totalSections;
         }
 
         return result;
     }
 
-    /**
-     * 챕터에서 섹션 수 계산
-     * 두 가지 JSON 구조를 모두 지원:
-     * 1. 이전 구조: titles, s_titles, ss_titles, concept_checks
-     * 2. 새로운 구조: 단순 chapters 배열 (각 chapter = 1 섹션)
-     */
-    private int calculateSectionsFromChapter(Map<String, Object> chapter) {
-        // 구조 판별: "index" 키가 있으면 이전 구조, "id" 키가 있으면 새로운 구조
-        if (chapter.containsKey("index") && chapter.containsKey("index_title")) {
-            // 이전 구조 (parsedData.data)
-            return calculateSectionsFromOldStructure(chapter);
-        } else if (chapter.containsKey("id") && chapter.containsKey("title")) {
-            // 새로운 구조 (chapters)
-            return calculateSectionsFromNewStructure(chapter);
-        } else {
-            log.warn("알 수 없는 챕터 구조: keys={}", chapter.keySet());
-            return 1; // 최소 1 섹션
-        }
+    private boolean isQuiz(ChapterProgressDto chapter) {
+        return "quiz".equals(chapter.getChapterType());
     }
 
     /**
-     * 이전 JSON 구조에서 섹션 수 계산
-     * titles, s_titles, ss_titles, concept_checks를 모두 카운팅
+     * 특정 학생의 모든 교재에 대한 진행률 요약 조회
+     * 공유 교재와 진행 상태를 조인 쿼리 한 번으로 조회
      */
-    private int calculateSectionsFromOldStructure(Map<String, Object> chapter) {
-        int sectionCount = 0;
-
-        String chapterId = (String) chapter.get("index");
-        String chapterTitle = (String) chapter.get("index_title");
-
-        // 1. titles 배열 처리
-        List<Map<String, Object>> titles = (List<Map<String, Object>>) chapter.get("titles");
-        if (titles != null) {
-            log.debug("챕터 [{}] titles 개수: {}", chapterId, titles.size());
-
-            for (int i = 0; i < titles.size(); i++) {
-                Map<String, Object> title = titles.get(i);
-                int titleSections = 0;
-
-                // title 자체도 하나의 섹션
-                sectionCount++;
-                titleSections++;
-
-                // s_titles 배열 처리
-                List<Map<String, Object>> sTitles = (List<Map<String, Object>>) title.get("s_titles");
-                if (sTitles != null) {
-                    for (Map<String, Object> sTitle : sTitles) {
-                        // s_title도 하나의 섹션
-                        sectionCount++;
-                        titleSections++;
-
-                        // ss_titles 배열 처리
-                        List<Map<String, Object>> ssTitles = (List<Map<String, Object>>) sTitle.get("ss_titles");
-                        if (ssTitles != null) {
-                            // 각 ss_title도 하나의 섹션
-                            sectionCount += ssTitles.size();
-                            titleSections += ssTitles.size();
-                        }
-                    }
-                }
-
-                log.debug("  - title[{}]: {} → {} 섹션", i, title.get("title"), titleSections);
-            }
-        }
-
-        // 2. concept_checks 배열 처리 (퀴즈는 진행률에서 제외)
-        List<Map<String, Object>> conceptChecks = (List<Map<String, Object>>) chapter.get("concept_checks");
-        boolean hasConceptChecks = conceptChecks != null && !conceptChecks.isEmpty();
-        if (hasConceptChecks) {
-            log.debug("챕터 [{}] concept_checks 개수: {} (진행률 계산에서 제외)", chapterId, conceptChecks.size());
-            // 퀴즈는 진행률 계산에서 제외하므로 카운팅하지 않음
-            // sectionCount += conceptChecks.size();
-        }
-
-        // 퀴즈만 있고 콘텐츠가 없는 챕터는 0 섹션 반환
-        if (sectionCount == 0 && hasConceptChecks) {
-            log.info("챕터 [{}] {} - 0 섹션 (퀴즈 전용 챕터, 진행률 제외)", chapterId, chapterTitle);
-            return 0;
+    public List<ProgressReportResponse> getAllProgressReports(Long studentId) {
+        // 학생 조회
+        if (!userRepository.existsById(studentId)) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
 
-        log.info("챕터 [{}] {} - 총 {} 섹션 (이전 구조)", chapterId, chapterTitle, sectionCount);
+        return toProgressReports(progressRepository.findReportRowsByStudentIds(List.of(studentId)));
+    }
 
-        // 콘텐츠가 있는 경우 최소 1개 섹션 보장
-        return Math.max(1, sectionCount);
+    /**
+     * 반 전체 학생의 교재별 진행률 리포트 조회 (선생님)
+     * 학생 수와 관계없이 쿼리 수가 일정함 (권한 확인 2 + 학생 목록 1 + 리포트 1 + 챕터 인덱스 1)
+     */
+    public ClassroomProgressReportResponse getClassroomProgressReports(Long classId, Long teacherId) {
+        checkClassroomTeacher(classId, teacherId);
+
+        List<StudentProfile> students = studentProfileRepository.findByClassroomIdWithUser(classId);
+        List<Long> studentIds = students.stream()
+                .map(student -> student.getUser().getId())
+                .toList();
+
+        Map<Long, List<ProgressReportResponse>> reportsByStudent = studentIds.isEmpty()
+                ? Map.of()
+                : toProgressReports(progressRepository.findReportRowsByStudentIds(studentIds)).stream()
+                        .collect(Collectors.groupingBy(ProgressReportResponse::getStudentId));
+
+        List<ClassroomProgressReportResponse.StudentReports> studentReports = students.stream()
+                .sorted(Comparator.comparing(StudentProfile::getStudentNumber,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(student -> ClassroomProgressReportResponse.StudentReports.builder()
+                        .studentId(student.getUser().getId())
+                        .studentName(student.getUser().getName())
+                        .studentNumber(student.getStudentNumber())
+                        .reports(reportsByStudent.getOrDefault(student.getUser().getId(), List.of()))
+                        .build())
+                .toList();
+
+        log.info("반 진행률 리포트 조회: classId={}, students={}", classId, studentReports.size());
+
+        return ClassroomProgressReportResponse.builder()
+                .classroomId(classId)
+                .totalStudents(studentReports.size())
+                .students(studentReports)
+                .build();
     }
 
     /**
-     * 새로운 JSON 구조에서 섹션 수 계산
-     * 각 chapter가 1개의 섹션 (퀴즈는 제외)
+     * 반 단위 교재별 진행률 집계 조회 (선생님)
+     * 평균/중앙값/완료 학생 수/뒤처진 학생은 진행률 업데이트 때마다 갱신되는 집계값에서 읽음
      */
-    private int calculateSectionsFromNewStructure(Map<String, Object> chapter) {
-        String chapterId = (String) chapter.get("id");
-        String chapterTitle = (String) chapter.get("title");
-        String chapterType = (String) chapter.get("type");
-
-        // 퀴즈 챕터는 진행률 계산에서 제외
-        if ("quiz".equals(chapterType)) {
-            log.info("챕터 [{}] {} (type: quiz) - 0 섹션 (퀴즈 제외)", chapterId, chapterTitle);
-            return 0;
-        }
+    public ClassroomProgressResponse getClassroomProgress(Long classId, Long teacherId) {
+        checkClassroomTeacher(classId, teacherId);
+        return classroomProgressAggregator.getClassroomProgress(classId);
+    }
 
-        log.info("챕터 [{}] {} (type: {}) - 1 섹션 (새로운 구조)", chapterId, chapterTitle, chapterType);
+    /**
+     * 선생님이 해당 반을 담당하는지 확인
+     */
+    private void checkClassroomTeacher(Long classId, Long teacherId) {
+        TeacherProfile teacher = teacherProfileRepository.findByUserId(teacherId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        // 새로운 구조에서는 각 chapter가 1개의 섹션
-        return 1;
+        if (!classroomTeacherRepository.existsByClassroomIdAndTeacherId(classId, teacher.getId())) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
     }
 
     /**
@@ -464,97 +359,65 @@ public class ProgressReportService {
         log.info("진행률 저장 완료: currentPage={}/{} = {}%", 
                 saved.getCurrentPage(), saved.getTotalPages(), calculatedPercentage);
 
-        // 9. 응답 생성
-        String message = saved.getCompletedAt() != null 
-                ? "🎉 축하합니다! 모든 학습을 완료했습니다!"
-                : String.format("진행률 업데이트 완료 (%d%%)", calculatedPercentage);
+        // 반 단위 집계 갱신 (커밋 후)
+        classroomProgressAggregator.recordAfterCommit(studentId, materialId,
+                ClassroomProgressAggregator.percentage(saved.getCurrentPage(), saved.getTotalPages()));
 
-        return UpdateProgressResponse.builder()
-                .studentId(saved.getStudent().getId())
-                .materialId(saved.getMaterial().getId())
-                .currentPage(saved.getCurrentPage())
-                .totalPages(saved.getTotalPages())
-                .progressPercentage(calculatedPercentage)
-                .isCompleted(saved.getCompletedAt() != null)
-                .lastAccessedAt(saved.getLastAccessedAt())
-                .completedAt(saved.getCompletedAt())
-                .message(message)
-                .build();
+        // 9. 응답 생성
+        return toUpdateResponse(studentId, materialId, saved.getCurrentPage(), saved.getTotalPages(),
+                saved.getLastAccessedAt(), saved.getCompletedAt());
     }
 
     /**
-     * JSON에서 chapters 추출 (3가지 패턴 모두 지원)
-     * 패턴 1: parsedData.data (이전 구조)
-     * 패턴 2: data (이전 구조)
-     * 패턴 3: chapters (새로운 구조 - EC2)
+     * 학습 진행률 업데이트 (write-behind)
+     * 버퍼에만 반영하고 DB 저장은 ProgressWriteBuffer가 주기적으로 배치 처리
+     * 트랜잭션/DB 커넥션을 잡지 않음 (처음 보는 학생-교재 조합만 권한 확인 조회)
      */
-    private List<Map<String, Object>> extractChapters(Map<String, Object> jsonData) {
-        log.info("=== extractChapters 시작 ===");
-        log.info("JSON 최상위 keys: {}", jsonData.keySet());
-
-        // 패턴 1: parsedData.data 구조 (이전)
-        Map<String, Object> parsedData = (Map<String, Object>) jsonData.get("parsedData");
-        if (parsedData != null) {
-            log.info("패턴 1 시도: parsedData 존재, keys: {}", parsedData.keySet());
-            List<Map<String, Object>> chapters = (List<Map<String, Object>>) parsedData.get("data");
-            if (chapters != null) {
-                log.info("✅ 패턴 1 성공: parsedData.data에서 {} 개의 챕터 발견", chapters.size());
-                return chapters;
-            }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UpdateProgressResponse recordProgress(Long studentId, Long materialId, Integer currentPage, Integer totalPages) {
+        if (totalPages == null) {
+            log.warn("앱이 totalPages를 보내지 않음. currentPage를 기본값으로 사용: {}", currentPage);
+            totalPages = currentPage;
         }
 
-        // 패턴 2: 직접 data 구조 (이전)
-        List<Map<String, Object>> chapters = (List<Map<String, Object>>) jsonData.get("data");
-        if (chapters != null) {
-            log.info("✅ 패턴 2 성공: data에서 {} 개의 챕터 발견", chapters.size());
-            return chapters;
-        }
+        ProgressWriteBuffer.Snapshot snapshot =
+                progressWriteBuffer.update(studentId, materialId, currentPage, totalPages);
 
-        // 패턴 3: 직접 chapters 구조 (새로운 - EC2)
-        chapters = (List<Map<String, Object>>) jsonData.get("chapters");
-        if (chapters != null) {
-            log.info("✅ 패턴 3 성공: chapters에서 {} 개의 챕터 발견 (새로운 JSON 구조)", chapters.size());
-            return chapters;
-        }
+        // 반 단위 집계 갱신
+        classroomProgressAggregator.recordAfterCommit(studentId, materialId,
+                ClassroomProgressAggregator.percentage(snapshot.currentPage(), snapshot.totalPages()));
 
-        log.error("❌ 모든 패턴 실패: chapters를 찾을 수 없습니다.");
-        throw new CustomException(ErrorCode.INVALID_JSON_STRUCTURE);
+        return toUpdateResponse(studentId, materialId, snapshot.currentPage(), snapshot.totalPages(),
+                snapshot.lastAccessedAt(), snapshot.completedAt());
     }
 
-    /**
-     * 총 섹션 수 계산 (퀴즈 제외)
-     */
-    private int calculateTotalSections(List<Map<String, Object>> chapters) {
-        int total = 0;
-        for (Map<String, Object> chapter : chapters) {
-            // calculateSectionsFromChapter가 퀴즈일 경우 0을 반환하도록 되어 있음
-            total += calculateSectionsFromChapter(chapter);
-        }
-        log.info("전체 섹션 수 계산 완료: {} 섹션 (퀴즈 제외)", total);
-        return total;
+    public boolean isWriteBehindEnabled() {
+        return writeBehindEnabled;
     }
 
-    /**
-     * 현재 학습 중인 챕터 찾기 (퀴즈 제외)
-     */
-    private ChapterProgressDto findCurrentChapter(List<ChapterProgressDto> chapterProgress) {
-        // 완료되지 않은 첫 번째 콘텐츠 챕터를 현재 챕터로 간주 (퀴즈 제외)
-        for (ChapterProgressDto chapter : chapterProgress) {
-            if (!"quiz".equals(chapter.getChapterType()) && !chapter.isCompleted()) {
-                return chapter;
-            }
+    private UpdateProgressResponse toUpdateResponse(Long studentId, Long materialId, Integer currentPage,
+                                                    Integer totalPages, LocalDateTime lastAccessedAt,
+                                                    LocalDateTime completedAt) {
+        int calculatedPercentage = 0;
+        if (totalPages != null && totalPages > 0) {
+            calculatedPercentage = (int)((currentPage * 100.0) / totalPages);
         }
 
-        // 모든 콘텐츠 챕터가 완료된 경우 마지막 콘텐츠 챕터 반환
-        for (int i = chapterProgress.size() - 1; i >= 0; i--) {
-            ChapterProgressDto chapter = chapterProgress.get(i);
-            if (!"quiz".equals(chapter.getChapterType())) {
-                return chapter;
-            }
-        }
+        String message = completedAt != null
+                ? "🎉 축하합니다! 모든 학습을 완료했습니다!"
+                : String.format("진행률 업데이트 완료 (%d%%)", calculatedPercentage);
 
-        // 콘텐츠 챕터가 없으면 null
-        return null;
+        return UpdateProgressResponse.builder()
+                .studentId(studentId)
+                .materialId(materialId)
+                .currentPage(currentPage)
+                .totalPages(totalPages)
+                .progressPercentage(calculatedPercentage)
+                .isCompleted(completedAt != null)
+                .lastAccessedAt(lastAccessedAt)
+                .completedAt(completedAt)
+                .message(message)
+                .build();
     }
 
     /**
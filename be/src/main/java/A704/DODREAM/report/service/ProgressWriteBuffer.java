@@ -0,0 +1,356 @@
+package A704.DODREAM.report.service;
+
+import A704.DODREAM.global.exception.CustomException;
+import A704.DODREAM.global.exception.constant.ErrorCode;
+import A704.DODREAM.material.repository.MaterialShareRepository;
+import A704.DODREAM.progress.entity.StudentMaterialProgress;
+import A704.DODREAM.report.repository.StudentMaterialProgressRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 학습 진행률 write-behind 버퍼
+ * <p>
+ * 페이지를 넘길 때마다 오는 진행률 업데이트를 (학생, 교재) 단위로 메모리에 합치고,
+ * flush-interval-ms 주기로 변경된 항목만 JDBC 배치 upsert로 student_material_progresses에 저장한다.
+ * - 처음 보는 (학생, 교재)만 공유 권한 확인 + 기존 진행 기록 조회
+ *   (이후 업데이트는 share-check-seconds마다 한 번만 공유 권한을 다시 확인)
+ * - 같은 항목의 연속 업데이트는 마지막 상태 하나로 합쳐짐 (currentPage는 최대값 유지)
+ * - 조회 API는 peek()로 아직 저장되지 않은 최신 값을 반영
+ * - 변경이 없는 항목은 idle-minutes 후 메모리에서 제거
+ * - 배치 저장이 실패하면 행 단위로 다시 저장하고, 다시 시도해도 안 되는 행(제약 위반 등)은 로그를 남기고 버림
+ * <p>
+ * upsert는 GREATEST로 currentPage를 비교하므로 여러 서버가 같은 행을 써도 진행률이 줄어들지 않는다.
+ */
+@Slf4j
+@Component
+public class ProgressWriteBuffer {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO student_material_progresses " +
+            "(student_id, material_id, current_page, total_pages, progress_percentage, last_accessed_at, completed_at) " +
+            "VALUES (?, ?, ?, ?, 0, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "current_page = GREATEST(COALESCE(current_page, 0), VALUES(current_page)), " +
+            "total_pages = VALUES(total_pages), " +
+            "last_accessed_at = GREATEST(COALESCE(last_accessed_at, VALUES(last_accessed_at)), VALUES(last_accessed_at)), " +
+            "completed_at = COALESCE(completed_at, VALUES(completed_at))";
+
+    private final MaterialShareRepository materialShareRepository;
+    private final StudentMaterialProgressRepository progressRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledExecutorService flusher;
+    private final int batchSize;
+    private final long idleNanos;
+    private final long shareCheckNanos;
+    private final Counter updateCounter;
+    private final Counter flushedRowCounter;
+    private final Counter droppedRowCounter;
+
+    private final Map<ProgressKey, ProgressState> states = new ConcurrentHashMap<>();
+    // DB 저장 중에는 synchronized 대신 사용 (가상 스레드가 캐리어 스레드를 점유하지 않도록)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ProgressWriteBuffer(
+            MaterialShareRepository materialShareRepository,
+            StudentMaterialProgressRepository progressRepository,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${progress.write-behind.flush-interval-ms:1000}") long flushIntervalMs,
+            @Value("${progress.write-behind.batch-size:500}") int batchSize,
+            @Value("${progress.write-behind.idle-minutes:10}") long idleMinutes,
+            @Value("${progress.write-behind.share-check-seconds:60}") long shareCheckSeconds) {
+        this.materialShareRepository = materialShareRepository;
+        this.progressRepository = progressRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.idleNanos = TimeUnit.MINUTES.toNanos(idleMinutes);
+        this.shareCheckNanos = TimeUnit.SECONDS.toNanos(Math.max(1, shareCheckSeconds));
+        this.updateCounter = Counter.builder("progress.write_behind.updates")
+                .description("버퍼에 들어온 진행률 업데이트 수")
+                .register(meterRegistry);
+        this.flushedRowCounter = Counter.builder("progress.write_behind.flushed_rows")
+                .description("DB에 저장된 진행률 행 수")
+                .register(meterRegistry);
+        this.droppedRowCounter = Counter.builder("progress.write_behind.dropped_rows")
+                .description("저장할 수 없어 버린 진행률 행 수")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("progress.write_behind.entries", List.of(), states);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(100, flushIntervalMs);
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 진행률 업데이트를 버퍼에 반영하고 합쳐진 최신 상태를 반환
+     *
+     * @throws CustomException 공유받지 않은 교재인 경우 (MATERIAL_NOT_FOUND)
+     */
+    public Snapshot update(Long studentId, Long materialId, int currentPage, int totalPages) {
+        ProgressKey key = new ProgressKey(studentId, materialId);
+        updateCounter.increment();
+
+        while (true) {
+            ProgressState state = states.get(key);
+            if (state == null) {
+                // DB 조회는 맵 잠금 밖에서 수행
+                ProgressState loaded = load(studentId, materialId);
+                state = states.putIfAbsent(key, loaded);
+                if (state == null) {
+                    state = loaded;
+                }
+            } else if (System.nanoTime() - state.verifiedNanos > shareCheckNanos) {
+                verifyShare(key, state);
+            }
+
+            synchronized (state) {
+                if (state.evicted) {
+                    continue; // 방금 제거된 항목이면 다시 로드
+                }
+                state.apply(currentPage, totalPages);
+                return state.snapshot();
+            }
+        }
+    }
+
+    /**
+     * 아직 DB에 저장되지 않은 최신 상태 (없으면 null)
+     */
+    public Snapshot peek(Long studentId, Long materialId) {
+        ProgressState state = states.get(new ProgressKey(studentId, materialId));
+        if (state == null) {
+            return null;
+        }
+        synchronized (state) {
+            return state.evicted ? null : state.snapshot();
+        }
+    }
+
+    /**
+     * 처음 보는 (학생, 교재): 공유 권한 확인 + 기존 진행 기록으로 초기화
+     */
+    private ProgressState load(Long studentId, Long materialId) {
+        if (materialShareRepository.findByStudentIdAndMaterialId(studentId, materialId).isEmpty()) {
+            throw new CustomException(ErrorCode.MATERIAL_NOT_FOUND);
+        }
+
+        return progressRepository.findByStudentIdAndMaterialId(studentId, materialId)
+                .map(ProgressState::from)
+                .orElseGet(ProgressState::new);
+    }
+
+    /**
+     * 공유가 해제된 교재면 버퍼에서 제거하고 예외 (확인 쿼리는 잠금 밖에서 수행)
+     */
+    private void verifyShare(ProgressKey key, ProgressState state) {
+        boolean shared = materialShareRepository
+                .findByStudentIdAndMaterialId(key.studentId(), key.materialId())
+                .isPresent();
+
+        synchronized (state) {
+            if (shared) {
+                state.verifiedNanos = System.nanoTime();
+                return;
+            }
+            state.evicted = true;
+            states.remove(key, state);
+        }
+        throw new CustomException(ErrorCode.MATERIAL_NOT_FOUND);
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("진행률 write-behind 저장 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 변경된 항목을 배치 upsert로 저장
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        List<Pending> pending = new ArrayList<>();
+        long now = System.nanoTime();
+
+        for (Map.Entry<ProgressKey, ProgressState> entry : states.entrySet()) {
+            ProgressState state = entry.getValue();
+            synchronized (state) {
+                if (state.dirty) {
+                    pending.add(new Pending(entry.getKey(), state, state.snapshot()));
+                    state.dirty = false;
+                } else if (now - state.touchedNanos > idleNanos) {
+                    state.evicted = true;
+                    states.remove(entry.getKey(), state);
+                }
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, pending, batchSize, (ps, item) -> bind(ps, item));
+        } catch (RuntimeException e) {
+            // 행 하나 때문에 배치 전체가 막히지 않도록 행 단위로 다시 저장
+            log.warn("진행률 배치 저장 실패, 행 단위로 재시도: {} rows, error={}", pending.size(), e.getMessage());
+            flushRowByRow(pending);
+            return;
+        }
+
+        flushedRowCounter.increment(pending.size());
+        log.debug("진행률 write-behind 저장: {} rows", pending.size());
+    }
+
+    /**
+     * 행 단위 저장
+     * - 일시적인 오류(연결/잠금 등): 해당 행부터 나머지를 다음 주기에 다시 저장
+     * - 그 밖의 오류(제약 위반 등): 다시 시도해도 실패하므로 로그를 남기고 버퍼에서 제거
+     */
+    private void flushRowByRow(List<Pending> pending) {
+        int flushed = 0;
+        for (int i = 0; i < pending.size(); i++) {
+            Pending item = pending.get(i);
+            try {
+                jdbcTemplate.update(UPSERT_SQL, ps -> bind(ps, item));
+                flushed++;
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    List<Pending> remaining = pending.subList(i, pending.size());
+                    remaining.forEach(this::markDirty);
+                    log.error("진행률 저장 실패, 다음 주기에 재시도: {} rows, error={}", remaining.size(), e.getMessage());
+                    break;
+                }
+
+                synchronized (item.state()) {
+                    item.state().evicted = true;
+                    states.remove(item.key(), item.state());
+                }
+                droppedRowCounter.increment();
+                log.error("진행률 저장 불가로 버림: studentId={}, materialId={}, snapshot={}, error={}",
+                        item.key().studentId(), item.key().materialId(), item.snapshot(), e.getMessage());
+            }
+        }
+        flushedRowCounter.increment(flushed);
+    }
+
+    private void bind(PreparedStatement ps, Pending item) throws SQLException {
+        Snapshot snapshot = item.snapshot();
+        ps.setLong(1, item.key().studentId());
+        ps.setLong(2, item.key().materialId());
+        ps.setInt(3, snapshot.currentPage());
+        ps.setInt(4, snapshot.totalPages());
+        ps.setTimestamp(5, Timestamp.valueOf(snapshot.lastAccessedAt()));
+        if (snapshot.completedAt() != null) {
+            ps.setTimestamp(6, Timestamp.valueOf(snapshot.completedAt()));
+        } else {
+            ps.setNull(6, Types.TIMESTAMP);
+        }
+    }
+
+    private void markDirty(Pending item) {
+        synchronized (item.state()) {
+            item.state().dirty = true;
+        }
+    }
+
+    private boolean isTransient(RuntimeException e) {
+        return !(e instanceof NonTransientDataAccessException)
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flushSafely();
+    }
+
+    private record ProgressKey(Long studentId, Long materialId) {
+    }
+
+    private record Pending(ProgressKey key, ProgressState state, Snapshot snapshot) {
+    }
+
+    /**
+     * 버퍼에 있는 진행 상태
+     */
+    public record Snapshot(int currentPage, int totalPages, LocalDateTime lastAccessedAt, LocalDateTime completedAt) {
+    }
+
+    /**
+     * (학생, 교재) 진행 상태 - StudentMaterialProgress.updateProgress/updateTotalPages와 같은 규칙
+     */
+    private static class ProgressState {
+        private int currentPage;
+        private int totalPages;
+        private LocalDateTime lastAccessedAt;
+        private LocalDateTime completedAt;
+        private long touchedNanos = System.nanoTime();
+        private long verifiedNanos = System.nanoTime();
+        private boolean dirty;
+        private boolean evicted;
+
+        static ProgressState from(StudentMaterialProgress progress) {
+            ProgressState state = new ProgressState();
+            state.currentPage = progress.getCurrentPage() != null ? progress.getCurrentPage() : 1;
+            state.totalPages = progress.getTotalPages() != null ? progress.getTotalPages() : state.currentPage;
+            state.lastAccessedAt = progress.getLastAccessedAt();
+            state.completedAt = progress.getCompletedAt();
+            return state;
+        }
+
+        void apply(int page, int total) {
+            totalPages = total;
+            // 진행률은 항상 최대값으로 저장 (뒤로 가더라도 진행률이 줄어들지 않음)
+            if (page > currentPage) {
+                currentPage = page;
+            }
+            if (currentPage >= totalPages && completedAt == null) {
+                completedAt = LocalDateTime.now();
+            }
+            lastAccessedAt = LocalDateTime.now();
+            touchedNanos = System.nanoTime();
+            dirty = true;
+        }
+
+        Snapshot snapshot() {
+            return new Snapshot(currentPage, totalPages, lastAccessedAt, completedAt);
+        }
+    }
+}
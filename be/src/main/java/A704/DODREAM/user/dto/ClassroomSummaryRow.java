@@ -0,0 +1,12 @@
+package A704.DODREAM.user.dto;
+
+/**
+ * 선생님 담당 반별 학생 수 / 공유 자료 수 (조회 전용)
+ */
+public interface ClassroomSummaryRow {
+	Long getClassroomId();
+
+	Long getStudentCount();
+
+	Long getMaterialCount();
+}
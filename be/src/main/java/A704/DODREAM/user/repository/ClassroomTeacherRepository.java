@@ -4,7 +4,9 @@ import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import A704.DODREAM.user.dto.ClassroomSummaryRow;
 import A704.DODREAM.user.entity.ClassroomTeacher;
 import A704.DODREAM.user.entity.StudentProfile;
 
@@ -23,5 +25,17 @@ public interface ClassroomTeacherRepository extends JpaRepository<ClassroomTeach
 		"ORDER BY s.classroom.id, s.studentNumber")
 	List<StudentProfile> findByClassroomIdsWithUser(List<Long> classroomIds);
 
+	// 담당 반별 학생 수 / 공유 자료 수 (삭제되지 않은 자료 기준, 자료 단위)
+	// material_shares.teacher_id는 users.id, classrooms_teachers.teacher_id는 teacher_profiles.id
+	@Query(value = "SELECT ct.classroom_id AS classroomId, " +
+		"(SELECT COUNT(*) FROM student_profiles sp WHERE sp.classroom_id = ct.classroom_id) AS studentCount, " +
+		"(SELECT COUNT(DISTINCT ms.material_id) FROM material_shares ms " +
+		"  JOIN materials m ON m.id = ms.material_id AND m.deleted_at IS NULL " +
+		"  WHERE ms.class_id = ct.classroom_id AND ms.teacher_id = tp.user_id) AS materialCount " +
+		"FROM classrooms_teachers ct " +
+		"JOIN teacher_profiles tp ON tp.id = ct.teacher_id " +
+		"WHERE tp.user_id = :userId", nativeQuery = true)
+	List<ClassroomSummaryRow> findSummaryByTeacherUserId(@Param("userId") Long userId);
+
 	boolean existsByClassroomIdAndTeacherId(Long classroomId, Long teacherId);
 }
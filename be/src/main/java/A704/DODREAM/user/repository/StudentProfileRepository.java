@@ -23,6 +23,14 @@ public interface StudentProfileRepository extends JpaRepository<StudentProfile,
 		"ORDER BY s.classroom.id, s.studentNumber")
 	List<StudentProfile> findByClassroomIdsWithUser(List<Long> classroomIds);
 
+	// 특정 반의 학생 사용자 ID
+	@Query("SELECT s.user.id FROM StudentProfile s WHERE s.classroom.id = :classroomId")
+	List<Long> findUserIdsByClassroomId(@Param("classroomId") Long classroomId);
+
+	// 특정 학생의 반 ID
+	@Query("SELECT s.classroom.id FROM StudentProfile s WHERE s.user.id = :userId AND s.classroom IS NOT NULL")
+	Optional<Long> findClassroomIdByUserId(@Param("userId") Long userId);
+
 	// 특정 학생의 프로필 조회
 	@Query("SELECT s FROM StudentProfile s " +
 		"JOIN FETCH s.user u " +
@@ -2,9 +2,9 @@ package A704.DODREAM.user.service;
 
 import A704.DODREAM.global.exception.CustomException;
 import A704.DODREAM.global.exception.constant.ErrorCode;
-import A704.DODREAM.material.repository.MaterialShareRepository;
 import A704.DODREAM.user.dto.StudentListResponse;
 import A704.DODREAM.user.dto.ClassroomResponse;
+import A704.DODREAM.user.dto.ClassroomSummaryRow;
 import A704.DODREAM.user.repository.ClassroomRepository;
 import A704.DODREAM.user.repository.ClassroomTeacherRepository;
 import A704.DODREAM.user.entity.Classroom;
@@ -31,7 +31,7 @@ public class ClassroomService {
 	private final StudentProfileRepository studentProfileRepository;
 	private final ClassroomRepository classroomRepository;
 	private final TeacherProfileRepository teacherProfileRepository;
-	private final MaterialShareRepository materialShareRepository;
+	private final ClassroomSummaryCache classroomSummaryCache;
 
     // 선생님의 담당 반 목록
     public ClassroomResponse getTeacherClassrooms(Long teacherId) {
@@ -45,17 +45,15 @@ public class ClassroomService {
         List<ClassroomTeacher> classroomTeachers =
                 classroomTeacherRepository.findByTeacherIdWithClassroom(teacherProfile.getId());
 
+		// 반별 학생 수 / 공유 자료 수는 그룹 쿼리 한 번으로 조회
+		Map<Long, ClassroomSummaryCache.Counts> summary = classroomSummaryCache.get(teacherId, this::loadSummary);
+
 		List<ClassroomResponse.ClassroomInfo> classroomInfos =
 			classroomTeachers.stream()
 				.map(ct -> {
-					int studentCount = studentProfileRepository
-						.findByClassroomIdWithUser(ct.getClassroom().getId())
-						.size();
-					int materialCount = materialShareRepository
-						.findByClassIdAndTeacherId(ct.getClassroom().getId(), ct.getTeacher().getId())
-						.size();
-
-					return ClassroomResponse.ClassroomInfo.from(ct, studentCount, materialCount);
+					ClassroomSummaryCache.Counts counts = summary.getOrDefault(ct.getClassroom().getId(),
+						new ClassroomSummaryCache.Counts(0, 0));
+					return ClassroomResponse.ClassroomInfo.from(ct, counts.studentCount(), counts.materialCount());
 				})
 				.toList();
 
@@ -67,6 +65,15 @@ public class ClassroomService {
 			.build();
 	}
 
+	private Map<Long, ClassroomSummaryCache.Counts> loadSummary(Long teacherId) {
+		return classroomTeacherRepository.findSummaryByTeacherUserId(teacherId).stream()
+			.collect(Collectors.toMap(
+				ClassroomSummaryRow::getClassroomId,
+				row -> new ClassroomSummaryCache.Counts(row.getStudentCount().intValue(),
+					row.getMaterialCount().intValue()),
+				(first, second) -> first));
+	}
+
     // 반별 학생 목록
     public StudentListResponse getClassroomStudents(Long classroomId, Long teacherId) {
         Classroom classroom = classroomRepository.findById(classroomId)
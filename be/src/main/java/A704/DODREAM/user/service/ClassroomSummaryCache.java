@@ -0,0 +1,82 @@
+package A704.DODREAM.user.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 선생님별 담당 반 요약(반별 학생 수 / 공유 자료 수) 캐시
+ * <p>
+ * 자료 공유, 자료 삭제 시 해당 선생님 항목을, 학생 가입 시 전체를 커밋 후 제거한다.
+ * 그 밖의 변경(반 배정 수정 등)은 expire-after-write-seconds 안에 반영된다.
+ */
+@Component
+public class ClassroomSummaryCache {
+
+	private final Cache<Long, Map<Long, Counts>> cache;
+
+	public ClassroomSummaryCache(
+		MeterRegistry meterRegistry,
+		@Value("${classroom.summary-cache.max-size:10000}") long maxSize,
+		@Value("${classroom.summary-cache.expire-after-write-seconds:60}") long expireAfterWriteSeconds) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+			.recordStats()
+			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "classroomSummaryCache");
+	}
+
+	/**
+	 * 선생님(users.id)의 반별 요약 (classroomId -> Counts)
+	 */
+	public Map<Long, Counts> get(Long teacherId, Function<Long, Map<Long, Counts>> loader) {
+		return cache.get(teacherId, loader);
+	}
+
+	/**
+	 * 선생님의 공유 자료 수가 바뀐 경우 (트랜잭션 안이면 커밋 후 제거)
+	 */
+	public void evictAfterCommit(Long teacherId) {
+		afterCommit(() -> cache.invalidate(teacherId));
+	}
+
+	/**
+	 * 반의 학생 수가 바뀐 경우 (여러 선생님이 한 반을 담당하므로 전체 제거)
+	 */
+	public void evictAllAfterCommit() {
+		afterCommit(cache::invalidateAll);
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	/**
+	 * 반 하나의 학생 수 / 공유 자료 수
+	 */
+	public record Counts(int studentCount, int materialCount) {
+	}
+}
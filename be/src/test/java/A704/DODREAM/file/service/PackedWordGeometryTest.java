@@ -0,0 +1,149 @@
+package A704.DODREAM.file.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import A704.DODREAM.file.dto.PageOcrResult;
+import A704.DODREAM.file.entity.OcrPage;
+import A704.DODREAM.file.entity.OcrWord;
+
+class PackedWordGeometryTest {
+
+	@Test
+	void roundTripsCoordinatesConfidenceOrderAndText() {
+		List<PageOcrResult.WordInfo> words = List.of(
+			word("광합성", 0.987, 10, 20, 110, 22, 112, 60, 8, 58, 0),
+			word("x = -3", 0.5, -5, 0, 2_000_000, 1, 2_000_001, 40, -4, 41, 1),
+			word("🌱 새싹", 1.0, 0, 0, 0, 0, 0, 0, 0, 0, 7));
+
+		PackedWordGeometry geometry = PackedWordGeometry.wrap(PackedWordGeometry.encode(words));
+
+		assertEquals(3, geometry.size());
+		assertFalse(geometry.isEmpty());
+		for (int i = 0; i < words.size(); i++) {
+			PageOcrResult.WordInfo word = words.get(i);
+			assertEquals(word.getText(), geometry.text(i));
+			assertEquals(word.getConfidence().floatValue(), geometry.confidence(i));
+			assertEquals(word.getX1(), geometry.x1(i));
+			assertEquals(word.getY1(), geometry.y1(i));
+			assertEquals(word.getX2(), geometry.x2(i));
+			assertEquals(word.getY2(), geometry.y2(i));
+			assertEquals(word.getX3(), geometry.x3(i));
+			assertEquals(word.getY3(), geometry.y3(i));
+			assertEquals(word.getX4(), geometry.x4(i));
+			assertEquals(word.getY4(), geometry.y4(i));
+			assertEquals(word.getOrder(), geometry.wordOrder(i));
+			assertEquals(word.getY3() - word.getY1(), geometry.height(i));
+		}
+	}
+
+	@Test
+	void encodesNullFieldsAsEmptyTextAndZero() {
+		PageOcrResult.WordInfo word = PageOcrResult.WordInfo.builder().build();
+
+		PackedWordGeometry geometry = PackedWordGeometry.wrap(PackedWordGeometry.encode(List.of(word)));
+
+		assertEquals(1, geometry.size());
+		assertEquals("", geometry.text(0));
+		assertEquals(0f, geometry.confidence(0));
+		assertEquals(0, geometry.x1(0));
+		assertEquals(0, geometry.y4(0));
+		assertEquals(0, geometry.wordOrder(0));
+	}
+
+	@Test
+	void emptyPage() {
+		byte[] encoded = PackedWordGeometry.encode(List.of());
+		PackedWordGeometry geometry = PackedWordGeometry.wrap(encoded);
+
+		assertEquals(0, geometry.size());
+		assertTrue(geometry.isEmpty());
+		assertFalse(geometry.cursor().next());
+		assertThrows(IndexOutOfBoundsException.class, () -> geometry.x1(0));
+		assertThrows(IndexOutOfBoundsException.class, () -> geometry.text(0));
+	}
+
+	@Test
+	void cursorVisitsWordsInOrder() {
+		PackedWordGeometry geometry = PackedWordGeometry.wrap(PackedWordGeometry.encode(List.of(
+			word("첫째", 0.9, 0, 0, 10, 0, 10, 12, 0, 12, 0),
+			word("둘째", 0.8, 20, 5, 30, 5, 30, 25, 20, 25, 1))));
+
+		PackedWordGeometry.Cursor cursor = geometry.cursor();
+		List<String> texts = new ArrayList<>();
+		List<Integer> heights = new ArrayList<>();
+		while (cursor.next()) {
+			texts.add(cursor.text());
+			heights.add(cursor.height());
+		}
+
+		assertEquals(List.of("첫째", "둘째"), texts);
+		assertEquals(List.of(12, 20), heights);
+	}
+
+	@Test
+	void rejectsUnknownFormat() {
+		byte[] encoded = PackedWordGeometry.encode(List.of());
+		encoded[0] = 0;
+
+		assertThrows(IllegalArgumentException.class, () -> PackedWordGeometry.wrap(encoded));
+	}
+
+	@Test
+	void ofPrefersPackedGeometry() {
+		byte[] encoded = PackedWordGeometry.encode(List.of(word("압축", 0.7, 1, 2, 3, 4, 5, 6, 7, 8, 0)));
+		OcrPage page = OcrPage.builder().pageNumber(1).wordGeometry(encoded).build();
+
+		PackedWordGeometry geometry = PackedWordGeometry.of(page);
+
+		assertEquals(1, geometry.size());
+		assertEquals("압축", geometry.text(0));
+	}
+
+	@Test
+	void ofFallsBackToLegacyWordRows() {
+		OcrPage page = OcrPage.builder().pageNumber(1).build();
+		page.getWords().add(OcrWord.builder()
+			.ocrPage(page)
+			.text("기존")
+			.confidence(0.66)
+			.x1(1).y1(2).x2(3).y2(4).x3(5).y3(6).x4(7).y4(8)
+			.wordOrder(3)
+			.build());
+
+		PackedWordGeometry geometry = PackedWordGeometry.of(page);
+
+		assertEquals(1, geometry.size());
+		assertEquals("기존", geometry.text(0));
+		assertEquals(0.66f, geometry.confidence(0));
+		assertArrayEquals(new int[] {1, 2, 3, 4, 5, 6, 7, 8},
+			new int[] {geometry.x1(0), geometry.y1(0), geometry.x2(0), geometry.y2(0),
+				geometry.x3(0), geometry.y3(0), geometry.x4(0), geometry.y4(0)});
+		assertEquals(3, geometry.wordOrder(0));
+	}
+
+	@Test
+	void ofReturnsEmptyForPageWithoutWords() {
+		OcrPage page = OcrPage.builder().pageNumber(1).build();
+
+		assertTrue(PackedWordGeometry.of(page).isEmpty());
+	}
+
+	private PageOcrResult.WordInfo word(String text, double confidence, int x1, int y1, int x2, int y2,
+		int x3, int y3, int x4, int y4, int order) {
+		return PageOcrResult.WordInfo.builder()
+			.text(text)
+			.confidence(confidence)
+			.x1(x1).y1(y1).x2(x2).y2(y2).x3(x3).y3(y3).x4(x4).y4(y4)
+			.order(order)
+			.build();
+	}
+}
@@ -0,0 +1,102 @@
+package A704.DODREAM.material.document;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ChapterIndexTest {
+
+	/**
+	 * 0: 콘텐츠 3섹션 (1~3쪽), 1: 퀴즈, 2: 콘텐츠 2섹션 (4~5쪽), 3: 퀴즈 (맨 끝)
+	 */
+	private final ChapterIndex index = ChapterIndex.of(List.of(
+		content(1, 3), quiz(2), content(3, 2), quiz(4)));
+
+	@Test
+	void computesCumulativeOffsetsSkippingQuizSections() {
+		assertEquals(5, index.getTotalSections());
+		assertFalse(index.isEmpty());
+		assertEquals(0, index.offsetOf(0));
+		assertEquals(3, index.offsetOf(1));
+		assertEquals(3, index.offsetOf(2));
+		assertEquals(5, index.offsetOf(3));
+	}
+
+	@Test
+	void locatesFirstAndLastPageOfEachChapter() {
+		assertEquals(0, index.locate(1), "첫 챕터 첫 쪽");
+		assertEquals(0, index.locate(3), "첫 챕터 마지막 쪽");
+		assertEquals(2, index.locate(4), "두 번째 콘텐츠 챕터 첫 쪽");
+		assertEquals(2, index.locate(5), "두 번째 콘텐츠 챕터 마지막 쪽");
+	}
+
+	@Test
+	void neverLocatesQuizBetweenContentChapters() {
+		// 퀴즈 챕터도 오프셋 3을 가지지만 섹션이 없으므로 다음 콘텐츠 챕터로 찾아야 함
+		assertEquals(2, index.locate(4));
+	}
+
+	@Test
+	void pageZeroLocatesFirstContentChapter() {
+		assertEquals(0, index.locate(0));
+		assertEquals(0, index.locate(-1));
+	}
+
+	@Test
+	void pagesPastTotalLocateLastContentChapterNotTrailingQuiz() {
+		assertEquals(2, index.locate(6));
+		assertEquals(2, index.locate(100));
+	}
+
+	@Test
+	void leadingQuizIsSkipped() {
+		ChapterIndex leadingQuiz = ChapterIndex.of(List.of(quiz(1), content(2, 2)));
+
+		assertEquals(1, leadingQuiz.locate(0));
+		assertEquals(1, leadingQuiz.locate(1));
+		assertEquals(1, leadingQuiz.locate(2));
+	}
+
+	@Test
+	void indexWithoutContentChaptersIsEmpty() {
+		ChapterIndex empty = ChapterIndex.of(List.of(quiz(1), content(2, 0)));
+
+		assertTrue(empty.isEmpty());
+		assertEquals(0, empty.getTotalSections());
+		assertEquals(-1, empty.locate(0));
+		assertEquals(-1, empty.locate(1));
+	}
+
+	@Test
+	void storedOffsetsMustMatchChapterCount() {
+		List<ChapterHeader> chapters = List.of(content(1, 3), quiz(2));
+
+		assertThrows(IllegalArgumentException.class, () -> ChapterIndex.of(chapters, new int[] {0}));
+		assertEquals(3, ChapterIndex.of(chapters, new int[] {0, 3}).getTotalSections());
+	}
+
+	private static ChapterHeader content(int chapterNumber, int sectionCount) {
+		return ChapterHeader.builder()
+			.chapterNumber(chapterNumber)
+			.id("chapter-" + chapterNumber)
+			.title("챕터 " + chapterNumber)
+			.type(Chapter.TYPE_CONTENT)
+			.sectionCount(sectionCount)
+			.build();
+	}
+
+	private static ChapterHeader quiz(int chapterNumber) {
+		return ChapterHeader.builder()
+			.chapterNumber(chapterNumber)
+			.id("quiz-" + chapterNumber)
+			.title("퀴즈 " + chapterNumber)
+			.type(Chapter.TYPE_QUIZ)
+			.sectionCount(0)
+			.build();
+	}
+}
@@ -0,0 +1,168 @@
+package A704.DODREAM.material.document;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class MaterialDocumentReaderTest {
+
+	/** 이전 구조: 본문 필드가 index보다 먼저 나오는 챕터와 문자열로 인코딩된 questions 포함 */
+	private static final String LEGACY_JSON = """
+		{
+		  "indexes": ["1. 식물", "2. 확인 문제"],
+		  "data": [
+		    {
+		      "titles": [
+		        {
+		          "title": "광합성",
+		          "contents": "빛 에너지",
+		          "s_titles": [
+		            {
+		              "s_title": "엽록체",
+		              "contents": "초록색",
+		              "ss_titles": [{"ss_title": "틸라코이드", "contents": "막"}]
+		            }
+		          ]
+		        },
+		        {"title": "호흡", "contents": "산소"}
+		      ],
+		      "index": "1",
+		      "index_title": "식물"
+		    },
+		    {
+		      "index": "2",
+		      "index_title": "확인 문제",
+		      "titles": [],
+		      "concept_checks": [
+		        {"title": "개념 확인", "questions": "[{\\"question\\": \\"광합성 장소는?\\", \\"answer\\": \\"엽록체\\"}]"}
+		      ]
+		    }
+		  ]
+		}
+		""";
+
+	private static final String CHAPTERS_JSON = """
+		{
+		  "chapters": [
+		    {"id": "c1", "title": "식물", "type": "content", "content": "<p>광합성</p>"},
+		    {"id": "q1", "title": "확인 문제", "type": "quiz",
+		     "qa": [{"question": "광합성 장소는?", "answer": "엽록체"}]},
+		    {"id": "c2", "title": "동물", "content": "<p>호흡</p>"}
+		  ]
+		}
+		""";
+
+	private final MaterialDocumentReader reader = new MaterialDocumentReader(new ObjectMapper());
+
+	@Test
+	void readsLegacyDataLayout() throws IOException {
+		MaterialDocument document = reader.read(stream(LEGACY_JSON));
+
+		assertEquals(List.of("1. 식물", "2. 확인 문제"), document.getIndexes());
+		assertEquals(2, document.getChapters().size());
+
+		Chapter content = document.getChapters().get(0);
+		assertTrue(content.isLegacy());
+		assertEquals("1", content.getId(), "본문 뒤에 나온 index도 id로 읽어야 함");
+		assertEquals("식물", content.getTitle());
+		assertEquals(Chapter.TYPE_CONTENT, content.getType());
+		assertEquals(2, content.getSections().size());
+		assertEquals("광합성", content.getSections().get(0).getTitle());
+		assertEquals("엽록체", content.getSections().get(0).getChildren().get(0).getTitle());
+		assertEquals("틸라코이드", content.getSections().get(0).getChildren().get(0).getChildren().get(0).getTitle());
+		assertEquals("산소", content.getSections().get(1).getContents());
+		assertEquals(4, content.getSectionCount(), "title + s_title + ss_title 노드 수");
+
+		Chapter quiz = document.getChapters().get(1);
+		assertTrue(quiz.isQuiz(), "concept_checks가 있으면 퀴즈");
+		assertEquals(0, quiz.getSectionCount());
+		assertEquals(1, quiz.getConceptChecks().size());
+		List<Chapter.QaItem> questions = quiz.getConceptChecks().get(0).getQuestions();
+		assertEquals(1, questions.size());
+		assertEquals("광합성 장소는?", questions.get(0).getQuestion());
+		assertEquals("엽록체", questions.get(0).getAnswer());
+	}
+
+	@Test
+	void readsChaptersLayout() throws IOException {
+		MaterialDocument document = reader.read(stream(CHAPTERS_JSON));
+
+		assertTrue(document.getIndexes().isEmpty());
+		assertEquals(3, document.getChapters().size());
+
+		Chapter content = document.getChapters().get(0);
+		assertFalse(content.isLegacy());
+		assertEquals("c1", content.getId());
+		assertEquals("<p>광합성</p>", content.getContent());
+		assertEquals(1, content.getSectionCount());
+
+		Chapter quiz = document.findChapter("q1").orElseThrow();
+		assertTrue(quiz.isQuiz());
+		assertEquals(1, quiz.getQa().size());
+		assertEquals("엽록체", quiz.getQa().get(0).getAnswer());
+
+		assertEquals(Chapter.TYPE_CONTENT, document.getChapters().get(2).getType(), "type이 없으면 content");
+	}
+
+	@Test
+	void unwrapsParsedData() throws IOException {
+		MaterialDocument document = reader.read(stream("{\"parsedData\": " + CHAPTERS_JSON + "}"));
+
+		assertEquals(3, document.getChapters().size());
+		assertEquals("c2", document.getChapters().get(2).getId());
+	}
+
+	@Test
+	void headersMatchFullReadForBothLayouts() throws IOException {
+		for (String json : List.of(LEGACY_JSON, CHAPTERS_JSON)) {
+			List<ChapterHeader> expected = reader.read(stream(json)).getHeaders();
+			List<ChapterHeader> headers = reader.readHeaders(stream(json));
+
+			assertEquals(expected.size(), headers.size());
+			for (int i = 0; i < expected.size(); i++) {
+				assertEquals(expected.get(i).getChapterNumber(), headers.get(i).getChapterNumber());
+				assertEquals(expected.get(i).getId(), headers.get(i).getId());
+				assertEquals(expected.get(i).getTitle(), headers.get(i).getTitle());
+				assertEquals(expected.get(i).getType(), headers.get(i).getType());
+				assertEquals(expected.get(i).getSectionCount(), headers.get(i).getSectionCount());
+			}
+		}
+	}
+
+	@Test
+	void headersOfLegacyLayoutCountSectionsWithoutBodies() throws IOException {
+		List<ChapterHeader> headers = reader.readHeaders(stream(LEGACY_JSON));
+
+		assertEquals(4, headers.get(0).getSectionCount());
+		assertEquals(Chapter.TYPE_QUIZ, headers.get(1).getType());
+		assertEquals(0, headers.get(1).getSectionCount());
+	}
+
+	@Test
+	void nullContentIsLeftEmpty() throws IOException {
+		MaterialDocument document = reader.read(stream("{\"chapters\": [{\"id\": \"c1\", \"content\": null}]}"));
+
+		assertNull(document.getChapters().get(0).getContent());
+	}
+
+	@Test
+	void rejectsNonObjectRoot() {
+		assertThrows(IOException.class, () -> reader.read(stream("[]")));
+	}
+
+	private static InputStream stream(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,59 @@
+package A704.DODREAM.quiz.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import A704.DODREAM.quiz.dto.GradingResultDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LocalQuizGraderTest {
+
+	private final LocalQuizGrader grader = new LocalQuizGrader(new SimpleMeterRegistry());
+
+	@ParameterizedTest(name = "[{index}] 정답 ''{0}'' ≠ 학생 ''{1}''")
+	@CsvSource(delimiter = '|', value = {
+		"x = -3    | x=3",
+		"x = -3    | x = 3",
+		"-3        | 3",
+		"1.5cm     | 15cm",
+		"1.5       | 15",
+		"(3, 2)    | 32",
+		"(3, 2)    | (2, 3)",
+		"3, 2      | 32",
+		"a-b       | ab",
+		"3:2       | 32",
+		"1/2       | 12",
+		"서울특별시 | 서울",
+		"!        | ?"
+	})
+	void mustNotMatch(String correctAnswer, String studentAnswer) {
+		Optional<GradingResultDto> result = grader.grade(1L, correctAnswer, studentAnswer);
+
+		assertFalse(result.isPresent() && result.get().isCorrect(),
+			() -> "'" + studentAnswer + "'을(를) '" + correctAnswer + "'의 정답으로 채점함");
+	}
+
+	@ParameterizedTest(name = "[{index}] 정답 ''{0}'' = 학생 ''{1}''")
+	@CsvSource(delimiter = '|', value = {
+		"서울      | ' 서울 '",
+		"Paris     | paris.",
+		"광합성    | 광합성!",
+		"x=3       | ｘ＝３",
+		"new   york | New York",
+		"1,000     | 1000",
+		"0.50      | 0.5",
+		"1/2       | 0.5",
+		"-3        | - 3"
+	})
+	void mustMatch(String correctAnswer, String studentAnswer) {
+		Optional<GradingResultDto> result = grader.grade(1L, correctAnswer, studentAnswer);
+
+		assertTrue(result.isPresent() && result.get().isCorrect(),
+			() -> "'" + studentAnswer + "'을(를) '" + correctAnswer + "'의 정답으로 채점하지 않음");
+	}
+}
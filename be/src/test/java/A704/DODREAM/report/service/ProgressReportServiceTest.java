@@ -0,0 +1,172 @@
+package A704.DODREAM.report.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import A704.DODREAM.material.document.Chapter;
+import A704.DODREAM.material.document.ChapterHeader;
+import A704.DODREAM.material.document.ChapterIndex;
+import A704.DODREAM.material.repository.MaterialRepository;
+import A704.DODREAM.material.repository.MaterialShareRepository;
+import A704.DODREAM.material.service.ChapterIndexService;
+import A704.DODREAM.report.dto.ChapterProgressDto;
+import A704.DODREAM.report.dto.ProgressReportResponse;
+import A704.DODREAM.report.dto.ProgressReportRow;
+import A704.DODREAM.report.repository.StudentMaterialProgressRepository;
+import A704.DODREAM.user.repository.ClassroomTeacherRepository;
+import A704.DODREAM.user.repository.StudentProfileRepository;
+import A704.DODREAM.user.repository.TeacherProfileRepository;
+import A704.DODREAM.user.repository.UserRepository;
+
+class ProgressReportServiceTest {
+
+    private static final Long STUDENT_ID = 1L;
+    private static final Long MATERIAL_ID = 10L;
+
+    /**
+     * 콘텐츠 3섹션, 퀴즈, 콘텐츠 2섹션, 퀴즈 (전체 5섹션)
+     */
+    private static final ChapterIndex CHAPTER_INDEX = ChapterIndex.of(List.of(
+            content(1, 3), quiz(2), content(3, 2), quiz(4)));
+
+    private final StudentMaterialProgressRepository progressRepository = mock(StudentMaterialProgressRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ChapterIndexService chapterIndexService = mock(ChapterIndexService.class);
+
+    private ProgressReportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProgressReportService(progressRepository, mock(MaterialRepository.class),
+                mock(MaterialShareRepository.class), userRepository, chapterIndexService,
+                mock(TeacherProfileRepository.class), mock(ClassroomTeacherRepository.class),
+                mock(StudentProfileRepository.class), mock(ClassroomProgressAggregator.class),
+                mock(ProgressWriteBuffer.class));
+        when(userRepository.existsById(STUDENT_ID)).thenReturn(true);
+        when(chapterIndexService.findAll(anyCollection())).thenReturn(Map.of(MATERIAL_ID, CHAPTER_INDEX));
+    }
+
+    @Test
+    void completedMaterialMarksEveryChapterCompleted() {
+        ProgressReportResponse report = report(5, 5, LocalDateTime.now());
+
+        assertEquals(2, report.getTotalChapters());
+        assertEquals(2, report.getCompletedChapters());
+        assertEquals(3, report.getCurrentChapterNumber());
+        assertChapter(report.getChapterProgress().get(0), 3, true);
+        assertChapter(report.getChapterProgress().get(2), 2, true);
+    }
+
+    @Test
+    void completedMaterialIsClampedEvenWhenAppPageCountDiffers() {
+        // 앱의 전체 페이지 수(8)가 인덱스의 섹션 수(5)와 달라도 완료 교재는 모두 완료로 표시
+        ProgressReportResponse report = report(8, 8, LocalDateTime.now());
+
+        assertEquals(2, report.getCompletedChapters());
+        assertChapter(report.getChapterProgress().get(2), 2, true);
+    }
+
+    @Test
+    void completedAtWithoutReachingLastPageIsAlsoClamped() {
+        ProgressReportResponse report = report(2, 8, LocalDateTime.now());
+
+        assertEquals(2, report.getCompletedChapters());
+        assertEquals(3, report.getCurrentChapterNumber());
+    }
+
+    @Test
+    void inProgressMaterialIsNotClamped() {
+        ProgressReportResponse report = report(4, 5, null);
+
+        assertEquals(1, report.getCompletedChapters());
+        assertEquals(3, report.getCurrentChapterNumber());
+        assertChapter(report.getChapterProgress().get(0), 3, true);
+        assertChapter(report.getChapterProgress().get(2), 1, false);
+    }
+
+    @Test
+    void lastPageOfChapterIsNotCompletedUntilNextPage() {
+        ProgressReportResponse report = report(3, 5, null);
+
+        assertEquals(0, report.getCompletedChapters());
+        assertEquals(1, report.getCurrentChapterNumber());
+        assertChapter(report.getChapterProgress().get(0), 3, false);
+        assertChapter(report.getChapterProgress().get(2), 0, false);
+    }
+
+    @Test
+    void unstartedMaterialPointsAtFirstChapter() {
+        ProgressReportResponse report = report(null, null, null);
+
+        assertEquals(0, report.getCompletedChapters());
+        assertEquals(1, report.getCurrentChapterNumber());
+        report.getChapterProgress().forEach(chapter -> assertChapter(chapter, 0, false));
+    }
+
+    @Test
+    void pageZeroIsNotClampedEvenWithCompletedAt() {
+        ProgressReportResponse report = report(0, 5, LocalDateTime.now());
+
+        assertEquals(0, report.getCompletedChapters());
+        assertEquals(1, report.getCurrentChapterNumber());
+    }
+
+    @Test
+    void quizChaptersAreNeverCompleted() {
+        ProgressReportResponse report = report(5, 5, LocalDateTime.now());
+
+        assertFalse(report.getChapterProgress().get(1).isCompleted());
+        assertFalse(report.getChapterProgress().get(3).isCompleted());
+        assertEquals(0, report.getChapterProgress().get(3).getTotalSections());
+    }
+
+    private ProgressReportResponse report(Integer currentPage, Integer totalPages, LocalDateTime completedAt) {
+        when(progressRepository.findReportRowsByStudentIds(List.of(STUDENT_ID))).thenReturn(List.of(
+                new ProgressReportRow(STUDENT_ID, "학생", MATERIAL_ID, "교재", currentPage, totalPages,
+                        LocalDateTime.now(), completedAt)));
+
+        List<ProgressReportResponse> reports = service.getAllProgressReports(STUDENT_ID);
+        assertEquals(1, reports.size());
+        return reports.get(0);
+    }
+
+    private static void assertChapter(ChapterProgressDto chapter, int completedSections, boolean completed) {
+        assertEquals(completedSections, chapter.getCompletedSections(), chapter.getChapterTitle() + " 완료 섹션 수");
+        if (completed) {
+            assertTrue(chapter.isCompleted(), chapter.getChapterTitle() + " 완료 여부");
+        } else {
+            assertFalse(chapter.isCompleted(), chapter.getChapterTitle() + " 완료 여부");
+        }
+    }
+
+    private static ChapterHeader content(int chapterNumber, int sectionCount) {
+        return ChapterHeader.builder()
+                .chapterNumber(chapterNumber)
+                .id("chapter-" + chapterNumber)
+                .title("챕터 " + chapterNumber)
+                .type(Chapter.TYPE_CONTENT)
+                .sectionCount(sectionCount)
+                .build();
+    }
+
+    private static ChapterHeader quiz(int chapterNumber) {
+        return ChapterHeader.builder()
+                .chapterNumber(chapterNumber)
+                .id("quiz-" + chapterNumber)
+                .title("퀴즈 " + chapterNumber)
+                .type(Chapter.TYPE_QUIZ)
+                .sectionCount(0)
+                .build();
+    }
+}